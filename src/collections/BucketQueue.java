@@ -0,0 +1,169 @@
+package collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A priority queue of int keys from 0 to capacity - 1 with integer priorities, as used by Dial's algorithm. Keys are
+ * kept in a circular array of maxStep + 1 buckets, one per priority, each a doubly linked list threaded through
+ * primitive arrays, so adding a key or lowering its priority takes constant time.
+ * <p>
+ * The queue is monotone: every priority given to it must lie between the priority of the last key removed and that
+ * priority plus maxStep. That holds when the priorities are distances found through edges of weight at most maxStep,
+ * and it lets all the keys that can be in the queue at once fit in the buckets without two priorities sharing one.
+ *
+ * @author AED Third Group - Universidad ICESI - 2019-2
+ * @version 1.0 - 10/2019
+ */
+public class BucketQueue {
+
+    /**
+     * The first key of each bucket, or -1 if the bucket is empty.
+     */
+    private final int[] heads;
+
+    /**
+     * The key after and before each key in its bucket, or -1 if there is none.
+     */
+    private final int[] next;
+    private final int[] previous;
+
+    /**
+     * The priority of each key in the queue.
+     */
+    private final long[] priorities;
+
+    /**
+     * If each key is in the queue.
+     */
+    private final boolean[] queued;
+
+    /**
+     * The priority of the bucket where the search for the minimum starts.
+     */
+    private long current;
+
+    /**
+     * The amount of keys in the queue.
+     */
+    private int size;
+
+    /**
+     * Creates an empty queue for the keys from 0 to capacity - 1.
+     *
+     * @param capacity the amount of possible keys
+     * @param maxStep  the most the priority of a key may exceed the priority of the last key removed
+     */
+    public BucketQueue(int capacity, int maxStep) {
+        if (maxStep < 0)
+            throw new IllegalArgumentException("The step between priorities cannot be negative");
+        heads = new int[maxStep + 1];
+        next = new int[capacity];
+        previous = new int[capacity];
+        priorities = new long[capacity];
+        queued = new boolean[capacity];
+        Arrays.fill(heads, -1);
+    }
+
+    /**
+     * Gives the amount of keys in the queue.
+     *
+     * @return said amount
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if the queue holds no keys.
+     *
+     * @return true if the queue is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Indicates if the given key is in the queue.
+     *
+     * @param key the key
+     * @return true if it is in the queue
+     */
+    public boolean contains(int key) {
+        return queued[key];
+    }
+
+    /**
+     * Returns the priority of a key in the queue.
+     * <pre> contains(key)
+     *
+     * @param key the key
+     * @return its priority
+     */
+    public long priority(int key) {
+        return priorities[key];
+    }
+
+    /**
+     * Adds the given key with the given priority if it is not in the queue, or lowers its priority if the given one is
+     * lower than its current one.
+     * <pre> priority of the last key removed &lt;= priority &lt;= that priority + maxStep
+     *
+     * @param key      the key
+     * @param priority the priority
+     * @return true if the key was added or its priority was lowered
+     */
+    public boolean offer(int key, long priority) {
+        if (queued[key]) {
+            if (priority >= priorities[key])
+                return false;
+            unlink(key);
+        } else {
+            queued[key] = true;
+            size++;
+        }
+        priorities[key] = priority;
+        int bucket = (int) (priority % heads.length);
+        previous[key] = -1;
+        next[key] = heads[bucket];
+        if (heads[bucket] != -1)
+            previous[heads[bucket]] = key;
+        heads[bucket] = key;
+        return true;
+    }
+
+    /**
+     * Removes a key with the lowest priority.
+     *
+     * @return said key
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int poll() {
+        if (size == 0)
+            throw new NoSuchElementException("The queue is empty");
+        int bucket = (int) (current % heads.length);
+        while (heads[bucket] == -1) {
+            current++;
+            bucket = bucket + 1 == heads.length ? 0 : bucket + 1;
+        }
+        int min = heads[bucket];
+        unlink(min);
+        queued[min] = false;
+        size--;
+        return min;
+    }
+
+    /**
+     * Takes the given key out of its bucket.
+     *
+     * @param key the key
+     */
+    private void unlink(int key) {
+        if (previous[key] != -1)
+            next[previous[key]] = next[key];
+        else
+            heads[(int) (priorities[key] % heads.length)] = next[key];
+        if (next[key] != -1)
+            previous[next[key]] = previous[key];
+    }
+}
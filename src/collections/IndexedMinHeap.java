@@ -0,0 +1,202 @@
+package collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A priority queue of int keys from 0 to capacity - 1, each with a double priority, that can lower the priority of a
+ * key already in the queue. It is a 4-ary heap kept in primitive arrays along with the position of each key in it, so
+ * no key is ever boxed or stored twice.
+ * <p>
+ * A 4-ary heap is shallower than a binary one, which makes lowering a priority cheaper at the cost of comparing more
+ * children when removing the minimum; that suits algorithms such as Dijkstra's, which lower priorities more often
+ * than they remove keys.
+ *
+ * @author AED Third Group - Universidad ICESI - 2019-2
+ * @version 1.0 - 10/2019
+ */
+public class IndexedMinHeap {
+
+    /**
+     * The amount of children of each node of the heap.
+     */
+    private static final int ARITY = 4;
+
+    /**
+     * The key stored at each position of the heap.
+     */
+    private final int[] heap;
+
+    /**
+     * The position of each key in the heap, or -1 if the key is not in the queue.
+     */
+    private final int[] positions;
+
+    /**
+     * The priority of each key in the queue.
+     */
+    private final double[] priorities;
+
+    /**
+     * The amount of keys in the queue.
+     */
+    private int size;
+
+    /**
+     * Creates an empty queue for the keys from 0 to capacity - 1.
+     *
+     * @param capacity the amount of possible keys
+     */
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        priorities = new double[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Gives the amount of keys in the queue.
+     *
+     * @return said amount
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if the queue holds no keys.
+     *
+     * @return true if the queue is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Indicates if the given key is in the queue.
+     *
+     * @param key the key
+     * @return true if it is in the queue
+     */
+    public boolean contains(int key) {
+        return positions[key] != -1;
+    }
+
+    /**
+     * Returns the priority of a key in the queue.
+     * <pre> contains(key)
+     *
+     * @param key the key
+     * @return its priority
+     */
+    public double priority(int key) {
+        return priorities[key];
+    }
+
+    /**
+     * Adds the given key with the given priority if it is not in the queue, or lowers its priority if the given one is
+     * lower than its current one.
+     *
+     * @param key      the key
+     * @param priority the priority
+     * @return true if the key was added or its priority was lowered
+     */
+    public boolean offer(int key, double priority) {
+        int position = positions[key];
+        if (position == -1) {
+            position = size++;
+            heap[position] = key;
+            positions[key] = position;
+        } else if (priority >= priorities[key])
+            return false;
+        priorities[key] = priority;
+        siftUp(position);
+        return true;
+    }
+
+    /**
+     * Returns the key with the lowest priority without removing it.
+     *
+     * @return said key
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int peek() {
+        if (size == 0)
+            throw new NoSuchElementException("The queue is empty");
+        return heap[0];
+    }
+
+    /**
+     * Removes the key with the lowest priority.
+     *
+     * @return said key
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int poll() {
+        int min = peek();
+        positions[min] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Removes every key from the queue.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++)
+            positions[heap[i]] = -1;
+        size = 0;
+    }
+
+    /**
+     * Moves the key at the given position up until its parent has a priority that is not higher.
+     *
+     * @param position the position of the key
+     */
+    private void siftUp(int position) {
+        int key = heap[position];
+        double priority = priorities[key];
+        while (position > 0) {
+            int parent = (position - 1) / ARITY;
+            if (priorities[heap[parent]] <= priority)
+                break;
+            heap[position] = heap[parent];
+            positions[heap[position]] = position;
+            position = parent;
+        }
+        heap[position] = key;
+        positions[key] = position;
+    }
+
+    /**
+     * Moves the key at the given position down until none of its children has a lower priority.
+     *
+     * @param position the position of the key
+     */
+    private void siftDown(int position) {
+        int key = heap[position];
+        double priority = priorities[key];
+        while (true) {
+            int first = position * ARITY + 1;
+            if (first >= size)
+                break;
+            int min = first;
+            int last = Math.min(first + ARITY, size);
+            for (int child = first + 1; child < last; child++)
+                if (priorities[heap[child]] < priorities[heap[min]])
+                    min = child;
+            if (priorities[heap[min]] >= priority)
+                break;
+            heap[position] = heap[min];
+            positions[heap[position]] = position;
+            position = min;
+        }
+        heap[position] = key;
+        positions[key] = position;
+    }
+}
@@ -0,0 +1,263 @@
+package collections;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A table that interns labels into dense int ids, from 0 upwards in order of first appearance, so that graphs can be
+ * built over ids instead of hashing the same Strings over and over.
+ * <p>
+ * Labels are kept as UTF-8 bytes in a single array and found through open addressing. Since they can be hashed and
+ * compared straight from an input buffer, interning a label that was already seen creates no object at all. Strings
+ * are only created by {@link #label(int)}, once per id.
+ *
+ * @author AED Third Group - Universidad ICESI - 2019-2
+ * @version 1.0 - 10/2019
+ */
+public class SymbolTable {
+
+    /**
+     * The length of the slot array of a new table. Always a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The id plus one of the label stored in each slot, or 0 if the slot is empty.
+     */
+    private int[] slots;
+
+    /**
+     * The hash of the label of each id.
+     */
+    private int[] hashes;
+
+    /**
+     * Position in 'bytes' where the label of each id begins. The label of id 'i' ends where the one of 'i + 1' begins.
+     */
+    private int[] starts;
+
+    /**
+     * The bytes of every label, one after the other.
+     */
+    private byte[] bytes;
+
+    /**
+     * The label of each id as a String, created the first time it is asked for.
+     */
+    private String[] labels;
+
+    /**
+     * The amount of labels in the table.
+     */
+    private int size;
+
+    /**
+     * Creates an empty table.
+     */
+    public SymbolTable() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+
+    /**
+     * Creates an empty table with room for the given amount of labels.
+     *
+     * @param expectedSize the amount of labels the table is expected to hold
+     */
+    public SymbolTable(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expectedSize * 2)
+            capacity *= 2;
+        slots = new int[capacity];
+        hashes = new int[capacity / 2];
+        starts = new int[capacity / 2 + 1];
+        bytes = new byte[Math.max(64, expectedSize * 8)];
+        labels = new String[capacity / 2];
+    }
+
+    /**
+     * Gives the id of the label held in buffer[from, to), assigning it the next id if it was not in the table.
+     *
+     * @param buffer the bytes of the label, in UTF-8
+     * @param from   the position of the first byte, inclusive
+     * @param to     the position of the last byte, exclusive
+     * @return the id of the label
+     */
+    public int intern(byte[] buffer, int from, int to) {
+        int hash = hash(buffer, from, to);
+        int slot = slotOf(hash, buffer, from, to);
+        if (slots[slot] != 0)
+            return slots[slot] - 1;
+        return add(slot, hash, buffer, from, to);
+    }
+
+    /**
+     * Gives the id of the given label, assigning it the next id if it was not in the table.
+     *
+     * @param label the label
+     * @return the id of the label
+     */
+    public int intern(String label) {
+        byte[] encoded = label.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(encoded, 0, encoded.length);
+        int slot = slotOf(hash, encoded, 0, encoded.length);
+        if (slots[slot] != 0)
+            return slots[slot] - 1;
+        int id = add(slot, hash, encoded, 0, encoded.length);
+        labels[id] = label;
+        return id;
+    }
+
+    /**
+     * Gives the id of the label held in buffer[from, to) without adding it.
+     *
+     * @param buffer the bytes of the label, in UTF-8
+     * @param from   the position of the first byte, inclusive
+     * @param to     the position of the last byte, exclusive
+     * @return the id of the label, or -1 if it is not in the table
+     */
+    public int find(byte[] buffer, int from, int to) {
+        return slots[slotOf(hash(buffer, from, to), buffer, from, to)] - 1;
+    }
+
+    /**
+     * Gives the id of the given label without adding it.
+     *
+     * @param label the label
+     * @return the id of the label, or -1 if it is not in the table
+     */
+    public int find(String label) {
+        byte[] encoded = label.getBytes(StandardCharsets.UTF_8);
+        return find(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Returns the label that has the given id.
+     * <pre> 0 &lt;= id &lt; size()
+     *
+     * @param id the id of the label
+     * @return said label
+     */
+    public String label(int id) {
+        if (id < 0 || id >= size)
+            throw new IndexOutOfBoundsException("No label has id " + id);
+        if (labels[id] == null)
+            labels[id] = new String(bytes, starts[id], starts[id + 1] - starts[id], StandardCharsets.UTF_8);
+        return labels[id];
+    }
+
+    /**
+     * Gives the amount of labels in the table, which is also the next id to be assigned.
+     *
+     * @return said amount
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every label from the table, keeping its arrays so that it can be filled again without allocating.
+     */
+    public void clear() {
+        Arrays.fill(slots, 0);
+        Arrays.fill(labels, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Hashes the given bytes with FNV-1a.
+     *
+     * @param buffer the bytes
+     * @param from   the position of the first byte, inclusive
+     * @param to     the position of the last byte, exclusive
+     * @return the hash
+     */
+    private static int hash(byte[] buffer, int from, int to) {
+        int hash = 0x811c9dc5;
+        for (int i = from; i < to; i++)
+            hash = (hash ^ buffer[i]) * 0x01000193;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Searches for the slot that holds the given label, or for the empty slot where it would be stored.
+     *
+     * @param hash   the hash of the label
+     * @param buffer the bytes of the label
+     * @param from   the position of the first byte, inclusive
+     * @param to     the position of the last byte, exclusive
+     * @return said slot
+     */
+    private int slotOf(int hash, byte[] buffer, int from, int to) {
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            int id = slots[slot] - 1;
+            if (hashes[id] == hash && matches(id, buffer, from, to))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Indicates if the label of the given id is equal to the given bytes.
+     *
+     * @param id     the id of the stored label
+     * @param buffer the bytes to compare against
+     * @param from   the position of the first byte, inclusive
+     * @param to     the position of the last byte, exclusive
+     * @return true if both are equal
+     */
+    private boolean matches(int id, byte[] buffer, int from, int to) {
+        int start = starts[id];
+        if (starts[id + 1] - start != to - from)
+            return false;
+        for (int i = from; i < to; i++)
+            if (bytes[start++] != buffer[i])
+                return false;
+        return true;
+    }
+
+    /**
+     * Stores a new label in the given empty slot, growing the table if it becomes half full.
+     *
+     * @param slot   the empty slot where the label belongs
+     * @param hash   the hash of the label
+     * @param buffer the bytes of the label
+     * @param from   the position of the first byte, inclusive
+     * @param to     the position of the last byte, exclusive
+     * @return the id assigned to the label
+     */
+    private int add(int slot, int hash, byte[] buffer, int from, int to) {
+        int id = size;
+        int start = starts[id];
+        if (start + (to - from) > bytes.length)
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, start + (to - from)));
+        System.arraycopy(buffer, from, bytes, start, to - from);
+        starts[id + 1] = start + (to - from);
+        hashes[id] = hash;
+        slots[slot] = id + 1;
+        size++;
+        if (size * 2 >= slots.length)
+            rehash();
+        return id;
+    }
+
+    /**
+     * Doubles the amount of slots and the room for ids, placing every label again.
+     */
+    private void rehash() {
+        int capacity = slots.length * 2;
+        int mask = capacity - 1;
+        slots = new int[capacity];
+        hashes = Arrays.copyOf(hashes, capacity / 2);
+        starts = Arrays.copyOf(starts, capacity / 2 + 1);
+        labels = Arrays.copyOf(labels, capacity / 2);
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (slots[slot] != 0)
+                slot = (slot + 1) & mask;
+            slots[slot] = id + 1;
+        }
+    }
+}
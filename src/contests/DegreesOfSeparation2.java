@@ -11,54 +11,45 @@ class DegreesOfSeparation2 {
 //    private static BufferedReader rd = new BufferedReader(new InputStreamReader(System.in));
 
     public static void main(String[] args) throws IOException, ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, WrongGraphTypeException {
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
+        ByteReader in = new ByteReader(System.in);
         GraphAlgorithms algorithms = new GraphAlgorithms();
+        //Interns each name straight from the input bytes, so that no String is created per name
+        SymbolTable people = new SymbolTable();
 
         int edges;
         int degreeOfSeparation;
         int counter = 0;
-        String[] input;
-        String[] header;
-        String person1;
-        String person2;
-        double[][] solution;
-        IGraph<String> graph;
-
-        while (!(header = br.readLine().split(" "))[0].equals("0")) {//Checks if there are no people in the network.
-            graph = new AdjacencyMatrixGraph<>(false, true);
-            edges = Integer.parseInt(header[1]);
+        int[] from;
+        int[] to;
+        int[][] solution;
+
+        while (in.nextInt() != 0) {//Checks if there are no people in the network.
+            people.clear();
+            edges = in.nextInt();
             degreeOfSeparation = -1;
             counter++;
 
+            from = new int[edges];
+            to = new int[edges];
             for (int i = 0; i < edges; i++) {
-                input = br.readLine().split(" ");
-                person1 = input[0];
-                person2 = input[1];
-
-                if (graph.getVertices().get(person1) == null)//Checks presence of lang1 in the graph.
-                    graph.addVertex(person1);
-                if (graph.getVertices().get(person2) == null)//Checks presence of lang2 in the graph.
-                    graph.addVertex(person2);
-
-                graph.addEdge(person1, person2, 1);
+                in.nextToken();
+                from[i] = people.intern(in.token, in.tokenLength);
+                in.nextToken();
+                to[i] = people.intern(in.token, in.tokenLength);
             }
-            solution = algorithms.floydWarshall(graph);
-            for (int i = 0; i < graph.getVertexSize(); i++) {
-                for (int j = 0; j < graph.getVertexSize(); j++) {
+            solution = algorithms.allPairsUnweighted(people.size(), from, to);
+            for (int i = 0; i < solution.length; i++) {
+                for (int j = 0; j < solution.length; j++) {
                     if (solution[i][j] > degreeOfSeparation) {
-                        degreeOfSeparation = (int) solution[i][j];
+                        degreeOfSeparation = solution[i][j];
                     }
-//                    System.out.print(graph.weightMatrix()[i][j] + "\t");
                 }
-//                System.out.println();
             }
-//            System.out.println(solution.length);
 
             System.out.println("Network " + counter + ": " +
                     (degreeOfSeparation == Integer.MAX_VALUE ? "DISCONNECTED" : degreeOfSeparation) + "\n");
         }
 
-
 //        String input = rd.readLine();;
 //        String output = "";
 //        int count = 1;
@@ -360,6 +351,51 @@ class DegreesOfSeparation2 {
      * @version 1.0 - 10/2019
      */
     static class GraphAlgorithms {
+        /**
+         * Finds the least amount of edges needed to go from every person to every other one, by a breadth-first search
+         * from each person over undirected adjacency lists kept in primitive arrays. Takes O(V * E) time instead of
+         * the O(V^3) of {@link #floydWarshall(IGraph)}.
+         *
+         * @param n    the amount of people, whose ids go from 0 to n - 1
+         * @param from the id of the first person of each edge
+         * @param to   the id of the second person of each edge
+         * @return a matrix of length 'n' by 'n'. Position [i][j] holds the amount of edges in the shortest path from
+         * 'i' to 'j', or Integer.MAX_VALUE if there is none
+         */
+        int[][] allPairsUnweighted(int n, int[] from, int[] to) {
+            int[] offsets = new int[n + 1];
+            for (int i = 0; i < from.length; i++) {
+                offsets[from[i] + 1]++;
+                offsets[to[i] + 1]++;
+            }
+            for (int i = 0; i < n; i++)
+                offsets[i + 1] += offsets[i];
+            int[] targets = new int[offsets[n]];
+            int[] next = Arrays.copyOf(offsets, n);
+            for (int i = 0; i < from.length; i++) {
+                targets[next[from[i]]++] = to[i];
+                targets[next[to[i]]++] = from[i];
+            }
+
+            int[][] d = new int[n][n];
+            int[] queue = new int[n];
+            for (int s = 0; s < n; s++) {
+                Arrays.fill(d[s], Integer.MAX_VALUE);
+                d[s][s] = 0;
+                queue[0] = s;
+                int tail = 1;
+                for (int head = 0; head < tail; head++) {
+                    int u = queue[head];
+                    for (int e = offsets[u]; e < offsets[u + 1]; e++)
+                        if (d[s][targets[e]] == Integer.MAX_VALUE) {
+                            d[s][targets[e]] = d[s][u] + 1;
+                            queue[tail++] = targets[e];
+                        }
+                }
+            }
+            return d;
+        }
+
         /**
          * An algorithm based on the approach by Floyd and Warshall for finding the minimum distance from all nodes in a
          * graph to every other node. If reaching vertex 'j' from vertex 'i' is not possible, position [i][j] returns
@@ -398,6 +434,133 @@ class DegreesOfSeparation2 {
         }
     }
 
+    /**
+     * Reads whitespace separated tokens from a stream into a reusable byte array.
+     */
+    static class ByteReader {
+        private final InputStream in;
+        private final byte[] buffer = new byte[1 << 16];
+        private int length;
+        private int position;
+
+        /**
+         * The bytes of the last token read. Only the first 'tokenLength' are valid.
+         */
+        byte[] token = new byte[64];
+        int tokenLength;
+
+        ByteReader(InputStream in) {
+            this.in = in;
+        }
+
+        private int read() throws IOException {
+            if (position == length) {
+                length = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (length <= 0)
+                    return -1;
+            }
+            return buffer[position++] & 0xff;
+        }
+
+        /**
+         * Reads the next token into 'token'.
+         *
+         * @return false if the stream ended before any token was found
+         */
+        boolean nextToken() throws IOException {
+            int c = read();
+            while (c != -1 && c <= ' ')
+                c = read();
+            tokenLength = 0;
+            while (c > ' ') {
+                if (tokenLength == token.length)
+                    token = Arrays.copyOf(token, tokenLength * 2);
+                token[tokenLength++] = (byte) c;
+                c = read();
+            }
+            return tokenLength > 0;
+        }
+
+        int nextInt() throws IOException {
+            if (!nextToken())
+                return 0;
+            int value = 0;
+            for (int i = 0; i < tokenLength; i++)
+                value = value * 10 + (token[i] - '0');
+            return value;
+        }
+    }
+
+    /**
+     * Assigns each distinct name a dense id, in order of first appearance. Names are hashed and compared straight from
+     * the input bytes.
+     */
+    static class SymbolTable {
+        private int[] slots = new int[16];
+        private int[] hashes = new int[8];
+        private int[] starts = new int[9];
+        private byte[] bytes = new byte[64];
+        private int size;
+
+        int intern(byte[] buffer, int length) {
+            int hash = 0x811c9dc5;
+            for (int i = 0; i < length; i++)
+                hash = (hash ^ buffer[i]) * 0x01000193;
+            hash ^= hash >>> 16;
+            int mask = slots.length - 1;
+            int slot = hash & mask;
+            while (slots[slot] != 0) {
+                int id = slots[slot] - 1;
+                if (hashes[id] == hash && matches(id, buffer, length))
+                    return id;
+                slot = (slot + 1) & mask;
+            }
+            int id = size++;
+            if (starts[id] + length > bytes.length)
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, starts[id] + length));
+            System.arraycopy(buffer, 0, bytes, starts[id], length);
+            starts[id + 1] = starts[id] + length;
+            hashes[id] = hash;
+            slots[slot] = id + 1;
+            if (size * 2 >= slots.length)
+                rehash();
+            return id;
+        }
+
+        private boolean matches(int id, byte[] buffer, int length) {
+            int start = starts[id];
+            if (starts[id + 1] - start != length)
+                return false;
+            for (int i = 0; i < length; i++)
+                if (bytes[start + i] != buffer[i])
+                    return false;
+            return true;
+        }
+
+        private void rehash() {
+            int mask = slots.length * 2 - 1;
+            slots = new int[slots.length * 2];
+            hashes = Arrays.copyOf(hashes, slots.length / 2);
+            starts = Arrays.copyOf(starts, slots.length / 2 + 1);
+            for (int id = 0; id < size; id++) {
+                int slot = hashes[id] & mask;
+                while (slots[slot] != 0)
+                    slot = (slot + 1) & mask;
+                slots[slot] = id + 1;
+            }
+        }
+
+        void clear() {
+            Arrays.fill(slots, 0);
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
     static class Vertex<V> implements Comparable<Vertex> {
         Integer index;
         V info;
@@ -0,0 +1,711 @@
+package model;
+
+import exceptions.ElementAlreadyPresentException;
+import exceptions.ElementNotFoundException;
+import exceptions.WrongEdgeTypeException;
+
+import java.util.*;
+
+/**
+ * A graph that chooses its own representation according to its density, that is, the amount of edges divided by the
+ * amount of cells an adjacency matrix would need. It starts as an {@link AdjacencyListGraph} and migrates to an
+ * {@link AdjacencyMatrixGraph} once the density reaches the dense threshold, and back once it falls below the sparse
+ * threshold. Keeping both thresholds apart prevents a graph that hovers around one of them from migrating back and
+ * forth.
+ * <p>
+ * Like the matrix representation, this graph keeps at most one edge between each pair of vertices: adding an edge that
+ * already exists replaces it. Migrating renumbers the vertices densely, so indices given by {@link #getIndex(Object)}
+ * are only valid until the graph is modified.
+ *
+ * @param <V> the type of vertex in the graph
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+public class AdaptiveGraph<V> implements IGraph<V> {
+
+    /**
+     * The density at which the graph migrates to a matrix when using the default Constructor.
+     */
+    public static final double DEFAULT_DENSE_THRESHOLD = 0.25;
+
+    /**
+     * The density under which the graph migrates back to adjacency lists when using the default Constructor.
+     */
+    public static final double DEFAULT_SPARSE_THRESHOLD = 0.0625;
+
+    /**
+     * The amount of vertices under which the graph always stays as adjacency lists, since then both representations
+     * are equally cheap and a few edges change the density a lot.
+     */
+    private static final int MIN_DENSE_VERTICES = 64;
+
+    /**
+     * If the graph is directed.
+     */
+    private final boolean isDirected;
+
+    /**
+     * If the graph is weighted.
+     */
+    private final boolean isWeighted;
+
+    /**
+     * The density at which the graph migrates to a matrix.
+     */
+    private final double denseThreshold;
+
+    /**
+     * The density under which the graph migrates back to adjacency lists.
+     */
+    private final double sparseThreshold;
+
+    /**
+     * The graph that currently stores the vertices and edges.
+     */
+    private IGraph<V> graph;
+
+    /**
+     * If 'graph' is currently an adjacency matrix.
+     */
+    private boolean dense;
+
+    /**
+     * The amount of edges stored in 'graph', counted once per direction except for loops.
+     */
+    private long arcs;
+
+    /**
+     * The amount of edges that a graph presized as a matrix expects, counted as in 'arcs'. Until it holds them, the
+     * graph is still being built and does not migrate to adjacency lists, however sparse it is. Zero once reached.
+     */
+    private long expectedArcs;
+
+    /**
+     * Constructs a new, empty graph with the default thresholds.
+     *
+     * @param id true if the graph is directed.
+     * @param iw true if the graph is weighted.
+     */
+    public AdaptiveGraph(boolean id, boolean iw) {
+        this(id, iw, DEFAULT_SPARSE_THRESHOLD, DEFAULT_DENSE_THRESHOLD);
+    }
+
+    /**
+     * Constructs a new, empty graph that migrates between representations at the given densities.
+     *
+     * @param id              true if the graph is directed.
+     * @param iw              true if the graph is weighted.
+     * @param sparseThreshold the density under which the graph migrates to adjacency lists
+     * @param denseThreshold  the density at which the graph migrates to a matrix
+     * @throws IllegalArgumentException if the thresholds are not 0 &lt;= sparseThreshold &lt; denseThreshold &lt;= 1
+     */
+    public AdaptiveGraph(boolean id, boolean iw, double sparseThreshold, double denseThreshold) {
+        if (!(0 <= sparseThreshold && sparseThreshold < denseThreshold && denseThreshold <= 1))
+            throw new IllegalArgumentException("Thresholds must satisfy 0 <= sparse < dense <= 1");
+        isDirected = id;
+        isWeighted = iw;
+        this.sparseThreshold = sparseThreshold;
+        this.denseThreshold = denseThreshold;
+        graph = new AdjacencyListGraph<>(id, iw);
+    }
+
+    /**
+     * Constructs a new, empty graph with the default thresholds, sized for the given amount of vertices and edges. The
+     * representation is chosen from the density they will have, so that building the graph needs no migration: a
+     * graph that starts as a matrix does not migrate to adjacency lists until it holds the expected amount of edges.
+     *
+     * @param id          true if the graph is directed.
+     * @param iw          true if the graph is weighted.
+     * @param vertexCount the amount of vertices the graph is expected to hold
+     * @param edgeCount   the amount of edges the graph is expected to hold
+     */
+    public AdaptiveGraph(boolean id, boolean iw, int vertexCount, int edgeCount) {
+        this(id, iw);
+        long n = vertexCount;
+        long expectedArcs = id ? edgeCount : 2L * edgeCount;
+        if (n >= MIN_DENSE_VERTICES && (double) expectedArcs / (n * n) >= denseThreshold) {
+            graph = new AdjacencyMatrixGraph<>(id, iw, vertexCount);
+            dense = true;
+            this.expectedArcs = expectedArcs;
+        } else
+            graph = new AdjacencyListGraph<>(id, iw, vertexCount);
+    }
+
+    /**
+     * Indicates if the graph is currently stored as an adjacency matrix.
+     *
+     * @return true if it is a matrix, false if it is adjacency lists
+     */
+    public boolean isDense() {
+        return dense;
+    }
+
+    /**
+     * Gives the current density of the graph.
+     *
+     * @return the amount of edges divided by the square of the amount of vertices, or 0 if the graph is empty
+     */
+    public double density() {
+        long n = graph.getVertices().size();
+        return n == 0 ? 0 : (double) arcs / (n * n);
+    }
+
+    /**
+     * Migrates the graph to the other representation if its density has crossed the corresponding threshold.
+     */
+    private void adapt() {
+        if (arcs >= expectedArcs)
+            expectedArcs = 0;
+        double density = density();
+        if (!dense && density >= denseThreshold && graph.getVertices().size() >= MIN_DENSE_VERTICES)
+            migrate(true);
+        else if (dense && expectedArcs == 0 && density < sparseThreshold)
+            migrate(false);
+    }
+
+    /**
+     * Copies every vertex and edge into a new graph of the given representation, which replaces the current one.
+     *
+     * @param toMatrix true to migrate to an adjacency matrix, false to migrate to adjacency lists
+     */
+    private void migrate(boolean toMatrix) {
+        CompressedSparseRowGraph<V> snapshot = new CompressedSparseRowGraph<>(graph);
+        int n = snapshot.getVertexSize();
+        IGraph<V> target = toMatrix ? new AdjacencyMatrixGraph<>(isDirected, isWeighted, Math.max(n, 1))
+                : new AdjacencyListGraph<>(isDirected, isWeighted);
+        try {
+            for (int id = 0; id < n; id++)
+                target.addVertex(snapshot.getVertex(id));
+            for (int id = 0; id < n; id++) {
+                V u = snapshot.getVertex(id);
+                for (int e = snapshot.edgeStart(id); e < snapshot.edgeEnd(id); e++) {
+                    int t = snapshot.edgeTarget(e);
+                    if (isDirected || id <= t) {//Undirected edges are stored in both rows, but added once.
+                        if (isWeighted)
+                            target.addEdge(u, snapshot.getVertex(t), snapshot.edgeWeight(e));
+                        else
+                            target.addEdge(u, snapshot.getVertex(t));
+                    }
+                }
+            }
+        } catch (ElementAlreadyPresentException | ElementNotFoundException | WrongEdgeTypeException e) {
+            throw new IllegalStateException("Could not copy the graph into its new representation", e);
+        }
+        graph = target;
+        dense = toMatrix;
+        arcs = snapshot.getEdgeSize();
+    }
+
+    /**
+     * Gives the amount of edges stored for an edge between the given vertices.
+     *
+     * @param u a vertex within the graph
+     * @param v a vertex within the graph
+     * @return 1 if the graph is directed or the edge is a loop, 2 otherwise
+     */
+    private int arcsOf(V u, V v) {
+        return isDirected || u.equals(v) ? 1 : 2;
+    }
+
+    /**
+     * Adds the given vertex to the graph.
+     *
+     * @param u the new vertex to be added
+     * @return true if the vertex did not already exist in the graph
+     * @throws ElementAlreadyPresentException if u is already present in the graph
+     */
+    @Override
+    public boolean addVertex(V u) throws ElementAlreadyPresentException {
+        boolean added = graph.addVertex(u);
+        adapt();
+        return added;
+    }
+
+    /**
+     * Adds every vertex of the given collection to the graph, in iteration order.
+     *
+     * @param us the new vertices to be added
+     * @return true if the vertices were added
+     * @throws ElementAlreadyPresentException if a vertex was already present. The vertices before it are kept
+     */
+    @Override
+    public boolean addVertices(Collection<? extends V> us) throws ElementAlreadyPresentException {
+        boolean added = graph.addVertices(us);
+        adapt();
+        return added;
+    }
+
+    /**
+     * Adds an unweighted edge between the vertices at indices u[i] and v[i], for every i, unless it already exists.
+     * The representation is reconsidered once, after every edge has been added.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @return true
+     * @throws WrongEdgeTypeException   if the graph is weighted
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is added then
+     */
+    @Override
+    public boolean addEdges(int[] u, int[] v) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (isWeighted)
+            throw new WrongEdgeTypeException("Tried to add an unweighted edge to a weighted graph.");
+        insertAll(u, v, null);
+        return true;
+    }
+
+    /**
+     * Adds an edge of weight w[i] between the vertices at indices u[i] and v[i], for every i, replacing the weight of
+     * the edges that already exist. The representation is reconsidered once, after every edge has been added.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @param w the weights of the edges
+     * @return true
+     * @throws WrongEdgeTypeException   if the graph is unweighted
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is added then
+     */
+    @Override
+    public boolean addEdges(int[] u, int[] v, double[] w) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (!isWeighted)
+            throw new WrongEdgeTypeException("Tried to add a weighted edge to an unweighted graph.");
+        if (w.length != u.length)
+            throw new IllegalArgumentException("Every edge needs a weight");
+        insertAll(u, v, w);
+        return true;
+    }
+
+    /**
+     * Adds the given edges once every index has been translated into its vertex, since migrating renumbers them.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @param w the weights of the edges, or null if the graph is unweighted
+     * @throws WrongEdgeTypeException   if the type of the edges does not match the graph
+     * @throws ElementNotFoundException if any index does not belong to a vertex
+     */
+    private void insertAll(int[] u, int[] v, double[] w) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (u.length != v.length)
+            throw new IllegalArgumentException("Both arrays of indices must have the same length");
+        Object[] from = new Object[u.length];
+        Object[] to = new Object[v.length];
+        for (int i = 0; i < u.length; i++) {
+            from[i] = graph.getVertex(u[i]);
+            to[i] = graph.getVertex(v[i]);
+        }
+        for (int i = 0; i < u.length; i++)
+            insert(cast(from[i]), cast(to[i]), w != null ? w[i] : Double.MAX_VALUE);
+        adapt();
+    }
+
+    /**
+     * Adds an edge between 'u' and 'v', or replaces the weight of the existing one, without reconsidering the
+     * representation.
+     *
+     * @param u a vertex within the graph
+     * @param v a vertex within the graph
+     * @param w the weight of the edge. Ignored if the graph is unweighted
+     * @throws WrongEdgeTypeException   if the type of the edge does not match the graph
+     * @throws ElementNotFoundException if either vertex is not in the graph
+     */
+    private void insert(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (graph.areConnected(u, v)) {
+            if (isWeighted)
+                graph.setWeight(u, v, w);
+        } else {
+            if (isWeighted)
+                graph.addEdge(u, v, w);
+            else
+                graph.addEdge(u, v);
+            arcs += arcsOf(u, v);
+        }
+    }
+
+    /**
+     * Casts a vertex kept in an array of objects back to the type of vertex of the graph.
+     *
+     * @param o the vertex
+     * @return the same vertex, as a V
+     */
+    @SuppressWarnings("unchecked")
+    private V cast(Object o) {
+        return (V) o;
+    }
+
+    /**
+     * Adds an unweighted edge between 'u' and 'v', directed from 'u' to 'v' if the graph is directed, unless it already
+     * exists.
+     *
+     * @param u a vertex within the graph
+     * @param v a vertex within the graph
+     * @return true
+     * @throws WrongEdgeTypeException  if the graph is weighted
+     * @throws ElementNotFoundException if either vertex is not in the graph
+     */
+    @Override
+    public boolean addEdge(V u, V v) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (isWeighted)
+            throw new WrongEdgeTypeException("Tried to add an unweighted edge to a weighted graph.");
+        insert(u, v, Double.MAX_VALUE);
+        adapt();
+        return true;
+    }
+
+    /**
+     * Adds an edge of weight 'w' between 'u' and 'v', directed from 'u' to 'v' if the graph is directed. If the edge
+     * already exists, its weight is replaced.
+     *
+     * @param u a vertex within the graph
+     * @param v a vertex within the graph
+     * @param w the weight of the edge
+     * @return true
+     * @throws WrongEdgeTypeException  if the graph is unweighted
+     * @throws ElementNotFoundException if either vertex is not in the graph
+     */
+    @Override
+    public boolean addEdge(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (!isWeighted)
+            throw new WrongEdgeTypeException("Tried to add a weighted edge to an unweighted graph.");
+        insert(u, v, w);
+        adapt();
+        return true;
+    }
+
+    /**
+     * Removes the given vertex and every edge that touches it.
+     *
+     * @param u the vertex to be removed
+     * @return true if the vertex was removed
+     * @throws ElementNotFoundException if the given vertex is not found
+     */
+    @Override
+    public boolean removeVertex(V u) throws ElementNotFoundException {
+        int index = graph.getIndex(u);
+        long[] degree = new long[2];//Edges that leave the vertex, and loops among them.
+        graph.forEachNeighbor(index, (target, weight) -> {
+            degree[0]++;
+            if (target == index)
+                degree[1]++;
+        });
+        long incoming = isDirected ? inDegree(index) : 0;
+        boolean removed = graph.removeVertex(u);
+        if (isDirected)//Loops are both incoming and outgoing.
+            arcs -= degree[0] + incoming - degree[1];
+        else//Every other edge is also stored in the row of its other end.
+            arcs -= 2 * degree[0] - degree[1];
+        adapt();
+        if (dense && graph.getVertices().size() * 2 < graph.getVertexSize())
+            ((AdjacencyMatrixGraph<V>) graph).compact();//Most of the matrix is made of empty slots.
+        return removed;
+    }
+
+    /**
+     * Removes the edge from 'u' to 'v', and the one from 'v' to 'u' if the graph is undirected.
+     *
+     * @param u vertex from which the edge originates
+     * @param v vertex to which the edge arrives
+     * @return true if said edge was removed
+     * @throws ElementNotFoundException if either vertex is not in the graph, or there is no such edge
+     */
+    @Override
+    public boolean removeEdge(V u, V v) throws ElementNotFoundException {
+        boolean connected = graph.areConnected(u, v);
+        boolean removed = graph.removeEdge(u, v);
+        if (connected) {
+            arcs -= arcsOf(u, v);
+            adapt();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the edge between the vertices at indices u[i] and v[i], for every i. The rows of those vertices are
+     * counted before and after, and the representation is reconsidered once, after every edge has been removed.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @return true if at least one edge was removed
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is removed then
+     */
+    @Override
+    public boolean removeEdges(int[] u, int[] v) throws ElementNotFoundException {
+        BitSet rows = new BitSet();
+        for (int i = 0; i < Math.min(u.length, v.length); i++) {
+            if (u[i] >= 0)
+                rows.set(u[i]);
+            if (!isDirected && v[i] >= 0)
+                rows.set(v[i]);
+        }
+        long before = arcsIn(rows);
+        boolean removed = graph.removeEdges(u, v);
+        if (removed) {
+            arcs -= before - arcsIn(rows);
+            adapt();
+        }
+        return removed;
+    }
+
+    /**
+     * Counts the edges stored in the given rows of the current representation. Rows of indices that do not belong to a
+     * vertex count as empty.
+     *
+     * @param rows the indices of the rows
+     * @return said amount, counted as in 'arcs'
+     */
+    private long arcsIn(BitSet rows) {
+        long[] count = new long[1];
+        int n = graph.getVertexSize();
+        for (int x = rows.nextSetBit(0); x != -1 && x < n; x = rows.nextSetBit(x + 1))
+            graph.forEachNeighbor(x, (target, weight) -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Gives the amount of edges that arrive at the vertex at the given index of the current representation.
+     * <pre> the graph is directed
+     *
+     * @param index the index of the vertex
+     * @return said amount, loops included
+     */
+    private int inDegree(int index) {
+        return dense ? ((AdjacencyMatrixGraph<V>) graph).inDegree(index)
+                : ((AdjacencyListGraph<V>) graph).inDegree(index);
+    }
+
+    /**
+     * Changes the weight of the edge between 'u' and 'v', directed from 'u' to 'v' if the graph is directed.
+     *
+     * @param u vertex from which the edge originates
+     * @param v vertex to which the edge arrives
+     * @param w the new weight
+     * @return true if the weight was changed, false if there is no such edge
+     * @throws WrongEdgeTypeException   if the graph is unweighted
+     * @throws ElementNotFoundException if either vertex is not in the graph
+     */
+    @Override
+    public boolean setWeight(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        return graph.setWeight(u, v, w);
+    }
+
+    /**
+     * Adds an edge of weight 'w' between 'u' and 'v', directed from 'u' to 'v' if the graph is directed, or lowers the
+     * weight of the existing one to 'w' if it is lighter.
+     *
+     * @param u vertex from which the edge originates
+     * @param v vertex to which the edge arrives
+     * @param w the weight of the edge
+     * @return true if the edge was added or its weight was lowered
+     * @throws WrongEdgeTypeException   if the graph is unweighted
+     * @throws ElementNotFoundException if either vertex is not in the graph
+     */
+    @Override
+    public boolean mergeEdgeMin(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        boolean connected = graph.areConnected(u, v);
+        boolean changed = graph.mergeEdgeMin(u, v, w);
+        if (!connected) {
+            arcs += arcsOf(u, v);
+            adapt();
+        }
+        return changed;
+    }
+
+    /**
+     * Returns a list of vertices adjacent to the given vertex.
+     *
+     * @param u vertex whose adjacent vertices are to be listed
+     * @return list of its adjacent vertices
+     * @throws ElementNotFoundException if 'u' is not in the graph
+     */
+    @Override
+    public List<V> vertexAdjacent(V u) throws ElementNotFoundException {
+        return graph.vertexAdjacent(u);
+    }
+
+    /**
+     * Reports every edge that leaves the vertex at index 'index'.
+     *
+     * @param index    the index of the vertex whose edges are to be reported
+     * @param consumer the operation to perform on each neighbor
+     */
+    @Override
+    public void forEachNeighbor(int index, IntDoubleConsumer consumer) {
+        graph.forEachNeighbor(index, consumer);
+    }
+
+    /**
+     * Indicates if there exists an edge from 'u' to 'v'.
+     *
+     * @param u starting vertex
+     * @param v ending vertex
+     * @return true if said edge exists
+     * @throws ElementNotFoundException if either vertex is not in the graph
+     */
+    @Override
+    public boolean areConnected(V u, V v) throws ElementNotFoundException {
+        return graph.areConnected(u, v);
+    }
+
+    /**
+     * Returns the weight matrix of the current representation.
+     *
+     * @return a matrix containing the weight of every edge
+     */
+    @Override
+    public double[][] weightMatrix() {
+        return graph.weightMatrix();
+    }
+
+    /**
+     * Gives the weight of the edge from the vertex at index 'i' to the vertex at index 'j'.
+     *
+     * @param i index of the vertex from which the edge originates
+     * @param j index of the vertex to which the edge arrives
+     * @return the weight of the edge, or Double.MAX_VALUE if there is none
+     */
+    @Override
+    public double weight(int i, int j) {
+        return graph.weight(i, j);
+    }
+
+    /**
+     * Returns whether the graph is directed.
+     *
+     * @return true if and only if graph is directed
+     */
+    @Override
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    /**
+     * Returns whether the graph is weighted.
+     *
+     * @return true if and only if graph is weighted
+     */
+    @Override
+    public boolean isWeighted() {
+        return isWeighted;
+    }
+
+    /**
+     * Returns the current index of vertex 'u'.
+     *
+     * @param u the vertex whose index will be returned
+     * @return the index of the vertex
+     * @throws ElementNotFoundException if 'u' is not in the graph
+     */
+    @Override
+    public int getIndex(V u) throws ElementNotFoundException {
+        return graph.getIndex(u);
+    }
+
+    /**
+     * Returns the vertex stored at the given index.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at said index
+     * @throws ElementNotFoundException if there is no vertex at said index
+     */
+    @Override
+    public V getVertex(int index) throws ElementNotFoundException {
+        return graph.getVertex(index);
+    }
+
+    /**
+     * Gives the amount of vertices in the graph.
+     *
+     * @return an int with said amount.
+     */
+    @Override
+    public int getVertexSize() {
+        return graph.getVertexSize();
+    }
+
+    /**
+     * Gives a Map that pairs vertices with their current index.
+     *
+     * @return said Map
+     */
+    @Override
+    public Map<V, Integer> getVertices() {
+        return graph.getVertices();
+    }
+
+    /**
+     * Returns a view of every edge in the graph, which reads whichever representation is current each time it is
+     * iterated or measured, so that it stays valid across migrations.
+     *
+     * @return said view
+     */
+    @Override
+    public Collection<Edge> getEdgesArray() {
+        return new Edges();
+    }
+
+    /**
+     * Copies the edges in the current representation into primitive columns.
+     *
+     * @return a new list with said edges
+     */
+    @Override
+    public EdgeList edgeList() {
+        return graph.edgeList();
+    }
+
+    /**
+     * Gives a view that pairs each vertex with the vertices it arrives to along with the weight of each edge. It reads
+     * whichever representation is current each time it is queried, so that it stays valid across migrations.
+     *
+     * @return said Map
+     */
+    @Override
+    public Map<V, List<Map<V, Double>>> getEdges() {
+        return new EdgesByVertex();
+    }
+
+    /**
+     * The edges of the graph, read from the view of the current representation on every call.
+     */
+    private final class Edges extends AbstractCollection<Edge> {
+
+        @Override
+        public Iterator<Edge> iterator() {
+            return graph.getEdgesArray().iterator();
+        }
+
+        @Override
+        public Spliterator<Edge> spliterator() {
+            return graph.getEdgesArray().spliterator();
+        }
+
+        @Override
+        public int size() {
+            return graph.getEdgesArray().size();
+        }
+    }
+
+    /**
+     * The edges that leave each vertex of the graph, read from the view of the current representation on every call.
+     */
+    private final class EdgesByVertex extends AbstractMap<V, List<Map<V, Double>>> {
+
+        @Override
+        public Set<Entry<V, List<Map<V, Double>>>> entrySet() {
+            return graph.getEdges().entrySet();
+        }
+
+        @Override
+        public List<Map<V, Double>> get(Object key) {
+            return graph.getEdges().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return graph.getEdges().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return graph.getEdges().size();
+        }
+    }
+}
@@ -13,6 +13,12 @@ import java.util.*;
  */
 public class AdjacencyListGraph<V> implements IGraph<V> {
 
+    /**
+     * The least fraction of the cells of the weight matrix that must hold an entry of the adjacency rows for the
+     * cached matrix to be kept. Below it, searching the rows is cheaper than keeping V * V cells up to date.
+     */
+    private static final double CACHE_DENSITY = 0.0625;
+
     /**
      * Map with all the vertices within the graph.
      * Key of the map is the Edge and Value is the position of the vertex in the adjacencyList
@@ -20,9 +26,21 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
     private Map<V, Integer> vertices;
 
     /**
-     * A list for each Edge within the graph which has a list with all its adjacent vertices.
+     * The vertex stored at each position of the adjacency list. Null if said vertex was removed.
      */
-    private List<List<V>> adjacencyLists;
+    private List<V> verticesByIndex;
+
+    /**
+     * A row for each vertex within the graph which holds the indices of all its adjacent vertices along with the
+     * weight of the edge they share.
+     */
+    private List<AdjacencyRow> adjacencyLists;
+
+    /**
+     * A row for each vertex within the graph which holds the indices of all vertices with an edge arriving at it.
+     * Only kept if the graph is directed, since otherwise it would be equal to 'adjacencyLists'.
+     */
+    private List<AdjacencyRow> incomingLists;
 
     /**
      * Property that indicates if the graph is directed.
@@ -35,14 +53,17 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
     private boolean isWeighted;
 
     /**
-     * A map that pairs each vertex to a list representing all adjacent vertices along with the weight of the edge they share.
+     * The last weight matrix built by {@link #weightMatrix()}, kept up to date as edges are added or removed and only
+     * read by {@link #weight(int, int)}. Null if it has not been built since the last vertex was added, or if the graph
+     * became too sparse for it.
      */
-    private Map<V, List<Map<V, Double>>> edges;
+    private double[][] weightCache;
 
     /**
-     * The edges in this graph.
+     * The amount of entries in the adjacency rows: every edge once, and again in the row of its destination if the
+     * graph is undirected and the edge is not a loop.
      */
-    private ArrayList<Edge> edgesArray = new ArrayList<>();
+    private long entries;
 
     /**
      * Basic constructor that is initialized with default values.
@@ -63,15 +84,40 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
         isWeighted = iw;
     }
 
+    /**
+     * Constructor that sizes the data structures for the given amount of vertices, so that adding them does not resize
+     * any of them.
+     *
+     * @param id             value to set "isDirected"
+     * @param iw             value to set "isWeighted"
+     * @param vertexCapacity the amount of vertices the graph is expected to hold
+     */
+    public AdjacencyListGraph(boolean id, boolean iw, int vertexCapacity) {
+        initialize(vertexCapacity);
+        isDirected = id;
+        isWeighted = iw;
+    }
+
     /**
      * Initializes all the data structures used for this graph.
      */
     private void initialize() {
+        initialize(10);
+    }
+
+    /**
+     * Initializes all the data structures used for this graph, sized for the given amount of vertices.
+     *
+     * @param vertexCapacity the amount of vertices the graph is expected to hold
+     */
+    private void initialize(int vertexCapacity) {
         isDirected = false;
         isWeighted = false;
-        adjacencyLists = new ArrayList<>();
-        vertices = new HashMap<>();
-        edges = new HashMap<>();
+        adjacencyLists = new ArrayList<>(vertexCapacity);
+        incomingLists = new ArrayList<>();
+        verticesByIndex = new ArrayList<>(vertexCapacity);
+        vertices = new HashMap<>(Math.max(16, (int) (vertexCapacity / 0.75f) + 1));
+        entries = 0;
     }
 
     /**
@@ -86,21 +132,36 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
     public boolean addVertex(V u) throws ElementAlreadyPresentException {
         // Check if the vertex is not on the map already
         if (!searchVertex(u)) {
-            // Create a new empty list for that vertex
-            List<V> vList = new ArrayList<>();
             // Get the position for this new vertex
             int index = adjacencyLists.size();
             // Add the vertex to the map
             vertices.put(u, index);
-            // Add the vertex empty list to the adjacencyLists
-            adjacencyLists.add(vList);
-            //
-            edges.put(u, new LinkedList<>());
+            verticesByIndex.add(u);
+            // Add the vertex empty row to the adjacencyLists
+            adjacencyLists.add(new AdjacencyRow(isWeighted));
+            if (isDirected)
+                incomingLists.add(new AdjacencyRow(false));
+            // The cached weight matrix no longer has room for the new vertex
+            weightCache = null;
         } else
             throw new ElementAlreadyPresentException("Vertex already exists in graph");
         return true;
     }
 
+    /**
+     * Adds every vertex of the given collection at the last positions, in iteration order.
+     *
+     * @param us the new vertices to be added
+     * @return true if the vertices were added
+     * @throws ElementAlreadyPresentException if a vertex was already present. The vertices before it are kept
+     */
+    @Override
+    public boolean addVertices(Collection<? extends V> us) throws ElementAlreadyPresentException {
+        for (V u : us)
+            addVertex(u);
+        return true;
+    }
+
     /**
      * Checks if a given vertex belongs to the graph.
      *
@@ -127,24 +188,13 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
         Integer indexU = vertices.get(u);
         Integer indexV = vertices.get(v);
         if (indexU != null && indexV != null) {
-            if (!isDirected) {
-                adjacencyLists.get(indexV).add(u);
-                Map<V, Double> mapOfU = new HashMap<>();
-                mapOfU.put(u, Double.MAX_VALUE);
-                edges.get(v).add(mapOfU);
-            }
-            adjacencyLists.get(indexU).add(v);
-            Map<V, Double> mapOfV = new HashMap<>();
-            mapOfV.put(v, Double.MAX_VALUE);
-            edges.get(u).add(mapOfV);
+            connect(indexU, indexV, Double.MAX_VALUE);
         } else {
             if (indexU == null)
                 throw new ElementNotFoundException("First element not found in graph");
             else
                 throw new ElementNotFoundException("Second element not found in graph");
         }
-        Edge e = new Edge(u, v);
-        edgesArray.add(e);
         return true;
     }
 
@@ -165,54 +215,274 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
         Integer indexU = vertices.get(u);
         Integer indexV = vertices.get(v);
         if (indexU != null && indexV != null) {
-            if (!isDirected) {
-                adjacencyLists.get(indexV).add(u);
-                Map<V, Double> mapOfU = new HashMap<>();
-                mapOfU.put(u, w);
-                edges.get(v).add(mapOfU);
-            }
-            adjacencyLists.get(indexU).add(v);
-            Map<V, Double> mapOfV = new HashMap<>();
-            mapOfV.put(v, w);
-            edges.get(u).add(mapOfV);
+            connect(indexU, indexV, w);
         } else {
             if (indexU == null)
                 throw new ElementNotFoundException("First element not found in graph");
             else
                 throw new ElementNotFoundException("Second element not found in graph");
         }
-        Edge e = new Edge(u, v, w);
-        edgesArray.add(e);return true;
+        return true;
+    }
+
+    /**
+     * Adds an unweighted edge from the vertex at index u[i] to the vertex at index v[i], for every i. If the graph is
+     * undirected, also adds the edges in the opposite direction. Each row is resized at most once.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @return true if the edges were added
+     * @throws WrongEdgeTypeException   if the graph is weighted
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is added then
+     */
+    @Override
+    public boolean addEdges(int[] u, int[] v) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (isWeighted)
+            throw new WrongEdgeTypeException("Tried to add unweighted edge to weighted graph");
+        connectAll(u, v, null);
+        return true;
+    }
+
+    /**
+     * Adds an edge of weight w[i] from the vertex at index u[i] to the vertex at index v[i], for every i. If the graph
+     * is undirected, also adds the edges in the opposite direction. Each row is resized at most once.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @param w the weights of the edges
+     * @return true if the edges were added
+     * @throws WrongEdgeTypeException   if the graph is unweighted
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is added then
+     */
+    @Override
+    public boolean addEdges(int[] u, int[] v, double[] w) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (!isWeighted)
+            throw new WrongEdgeTypeException("Tried to add weighted edge to unweighted graph");
+        if (w.length != u.length)
+            throw new IllegalArgumentException("Every edge needs a weight");
+        connectAll(u, v, w);
+        return true;
+    }
+
+    /**
+     * Stores the given edges after checking that every index belongs to a vertex and making room for them in each row.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @param w the weights of the edges, or null if the graph is unweighted
+     * @throws ElementNotFoundException if any index does not belong to a vertex
+     */
+    private void connectAll(int[] u, int[] v, double[] w) throws ElementNotFoundException {
+        if (u.length != v.length)
+            throw new IllegalArgumentException("Both arrays of indices must have the same length");
+        int[] degrees = new int[adjacencyLists.size()];
+        for (int i = 0; i < u.length; i++) {
+            if (!isVertex(u[i]) || !isVertex(v[i]))
+                throw new ElementNotFoundException("No vertex was found at the given index");
+            degrees[u[i]]++;
+            if (!isDirected && u[i] != v[i])
+                degrees[v[i]]++;
+        }
+        for (int index = 0; index < degrees.length; index++)
+            if (degrees[index] > 0)
+                adjacencyLists.get(index).ensureCapacity(adjacencyLists.get(index).size() + degrees[index]);
+        for (int i = 0; i < u.length; i++)
+            connect(u[i], v[i], w != null ? w[i] : Double.MAX_VALUE);
+    }
+
+    /**
+     * Indicates if there is a vertex at the given index.
+     *
+     * @param index the index to be checked
+     * @return true if a vertex is stored there
+     */
+    private boolean isVertex(int index) {
+        return index >= 0 && index < verticesByIndex.size() && verticesByIndex.get(index) != null;
+    }
+
+    /**
+     * Stores an edge from the vertex at index 'x' to the vertex at index 'y'. If the graph is undirected and the edge
+     * is not a loop, also stores the edge from 'y' to 'x'.
+     *
+     * @param x index of the vertex from which the edge originates
+     * @param y index of the vertex to which the edge arrives
+     * @param w the weight of the edge
+     */
+    private void connect(int x, int y, double w) {
+        adjacencyLists.get(x).add(y, w);
+        entries++;
+        if (isDirected)
+            incomingLists.get(y).add(x, w);
+        else if (x != y) {
+            adjacencyLists.get(y).add(x, w);
+            entries++;
+        }
+        if (weightCache != null && isWeighted && x != y) {
+            weightCache[x][y] = w;
+            if (!isDirected)
+                weightCache[y][x] = w;
+        }
     }
 
     /**
-     * Removes the given vertex from the graph.
+     * Changes the weight of every edge from 'u' to 'v', and from 'v' to 'u' if the graph is undirected, in their rows
+     * and in the cached weight matrix.
+     *
+     * @param u vertex from which the edge originates
+     * @param v vertex to which the edge arrives
+     * @param w the new weight
+     * @return true if the weight was changed, false if there is no such edge
+     * @throws WrongEdgeTypeException   if the graph is unweighted
+     * @throws ElementNotFoundException if either 'u' or 'v' are not in the graph
+     */
+    @Override
+    public boolean setWeight(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (!isWeighted)
+            throw new WrongEdgeTypeException("Tried to set the weight of an edge in an unweighted graph");
+        Integer indexU = vertices.get(u);
+        Integer indexV = vertices.get(v);
+        if (indexU == null)
+            throw new ElementNotFoundException("First element not found in graph");
+        else if (indexV == null)
+            throw new ElementNotFoundException("Second element not found in graph");
+        return reweigh(indexU, indexV, w);
+    }
+
+    /**
+     * Adds an edge of weight 'w' from 'u' to 'v', or, if they are already connected, lowers the weight of their edges
+     * to 'w' when it is lighter than that of the last one added.
+     *
+     * @param u vertex from which the edge originates
+     * @param v vertex to which the edge arrives
+     * @param w the weight of the edge
+     * @return true if the edge was added or its weight was lowered
+     * @throws WrongEdgeTypeException   if the graph is unweighted
+     * @throws ElementNotFoundException if either 'u' or 'v' are not in the graph
+     */
+    @Override
+    public boolean mergeEdgeMin(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (!isWeighted)
+            throw new WrongEdgeTypeException("Tried to add weighted edge to unweighted graph");
+        Integer indexU = vertices.get(u);
+        Integer indexV = vertices.get(v);
+        if (indexU == null)
+            throw new ElementNotFoundException("First element not found in graph");
+        else if (indexV == null)
+            throw new ElementNotFoundException("Second element not found in graph");
+        AdjacencyRow row = adjacencyLists.get(indexU);
+        int position = row.lastIndexOf(indexV);
+        if (position == -1) {
+            connect(indexU, indexV, w);
+            return true;
+        }
+        return w < row.weight(position) && reweigh(indexU, indexV, w);
+    }
+
+    /**
+     * Changes the weight of every edge from the vertex at index 'x' to the vertex at index 'y', and of the opposite
+     * edges if the graph is undirected.
+     *
+     * @param x index of the vertex from which the edges originate
+     * @param y index of the vertex to which the edges arrive
+     * @param w the new weight
+     * @return true if there was any such edge
+     */
+    private boolean reweigh(int x, int y, double w) {
+        if (adjacencyLists.get(x).setWeights(y, w) == 0)
+            return false;
+        if (isDirected)
+            incomingLists.get(y).setWeights(x, w);
+        else if (x != y)
+            adjacencyLists.get(y).setWeights(x, w);
+        if (weightCache != null && x != y) {
+            weightCache[x][y] = w;
+            if (!isDirected)
+                weightCache[y][x] = w;
+        }
+        return true;
+    }
+
+    /**
+     * Removes the given vertex from the graph. The last vertex is moved into the freed position, so that indices stay
+     * dense, and only the rows of the vertices adjacent to either of them are updated, which are found through the
+     * vertices' own rows and, if the graph is directed, through the rows of incoming edges.
      *
      * @param u the vertex to be removed
      * @return true if the vertex was removed
      * @throws ElementNotFoundException if the given vertex is not found
      */
-    @SuppressWarnings("unlikely-arg-type")
     @Override
     public boolean removeVertex(V u) throws ElementNotFoundException {
         // first looks if the vertex exists
-        if (vertices.containsKey(u)) {
-
-            // remove the existing list which represents the adjacent vertices of the vertex to remove
-            adjacencyLists.remove(vertices.get(u));
+        Integer index = vertices.get(u);
+        if (index == null)
+            throw new ElementNotFoundException("Parameter not present in graph");
 
-            // remove any existing connection to the vertex
-            for (int i = 0; i < adjacencyLists.size(); i++) {
-                if (adjacencyLists.get(i).contains(u)) adjacencyLists.get(i).remove(i);
+        // remove any existing connection to the vertex
+        AdjacencyRow row = adjacencyLists.get(index);
+        entries -= row.size();
+        for (int i = 0; i < row.size(); i++)
+            if (row.target(i) != index) {
+                int removed = (isDirected ? incomingLists : adjacencyLists).get(row.target(i)).removeAll(index);
+                if (!isDirected)
+                    entries -= removed;
             }
+        if (isDirected) {
+            AdjacencyRow incoming = incomingLists.get(index);
+            for (int i = 0; i < incoming.size(); i++)
+                if (incoming.target(i) != index)
+                    entries -= adjacencyLists.get(incoming.target(i)).removeAll(index);
+        }
 
-            // removes the vertex form the map
-            vertices.remove(u);
-        } else
-            throw new ElementNotFoundException("Parameter not present in graph");
+        // moves the last vertex into the freed position
+        int last = adjacencyLists.size() - 1;
+        if (index != last) {
+            V moved = verticesByIndex.get(last);
+            adjacencyLists.set(index, adjacencyLists.get(last));
+            verticesByIndex.set(index, moved);
+            vertices.put(moved, index);
+            if (isDirected)
+                incomingLists.set(index, incomingLists.get(last));
+            renumber(last, index);
+        }
+        adjacencyLists.remove(last);
+        verticesByIndex.remove(last);
+        if (isDirected)
+            incomingLists.remove(last);
+        vertices.remove(u);
+
+        // The cached weight matrix no longer has the right size
+        weightCache = null;
         return true;
     }
 
+    /**
+     * Replaces the old index of a vertex by its new one in the rows of every vertex adjacent to it.
+     *
+     * @param from the old index of the vertex
+     * @param to   the new index of the vertex, whose rows are already in place
+     */
+    private void renumber(int from, int to) {
+        AdjacencyRow row = adjacencyLists.get(to);
+        for (int i = 0; i < row.size(); i++) {
+            int target = row.target(i);
+            if (target == from || target == to)//A loop, stored in the vertex's own rows.
+                row.replaceAll(from, to);
+            else
+                (isDirected ? incomingLists : adjacencyLists).get(target).replaceAll(from, to);
+        }
+        if (isDirected) {
+            AdjacencyRow incoming = incomingLists.get(to);
+            for (int i = 0; i < incoming.size(); i++) {
+                int source = incoming.target(i);
+                if (source == from || source == to)
+                    incoming.replaceAll(from, to);
+                else
+                    adjacencyLists.get(source).replaceAll(from, to);
+            }
+        }
+    }
+
     /**
      * Removes the edge from 'u' to 'v'. If the graph is undirected, also removes the edge
      * from 'v' to 'u'.
@@ -232,32 +502,94 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
         else if (indexOfV == null)
             throw new ElementNotFoundException("Second parameter does not belong to graph");
 
-        boolean foundEdge = false;
+        int removed = adjacencyLists.get(indexOfU).removeAll(indexOfV);
+        if (isDirected)
+            incomingLists.get(indexOfV).removeAll(indexOfU);
+        else
+            removed += adjacencyLists.get(indexOfV).removeAll(indexOfU);
 
-        List<V> currentVertex = adjacencyLists.get(indexOfU);
-        for (Iterator<V> iterator = currentVertex.iterator(); iterator.hasNext(); ) {
-            V next = iterator.next();
-            if (next.equals(v)) {
-                iterator.remove();
-                foundEdge = true;
-            }
+        if (removed == 0)
+            throw new ElementNotFoundException("No edge was found between the given vertices");
+
+        entries -= removed;
+        if (weightCache != null && isWeighted && !indexOfU.equals(indexOfV)) {
+            weightCache[indexOfU][indexOfV] = Double.MAX_VALUE;
+            if (!isDirected)
+                weightCache[indexOfV][indexOfU] = Double.MAX_VALUE;
         }
+        dropSparseCache();
+        return true;
+    }
 
-        currentVertex = adjacencyLists.get(indexOfV);
-        for (Iterator<V> iterator = currentVertex.iterator(); iterator.hasNext(); ) {
-            V next = iterator.next();
-            if (next.equals(u)) {
-                iterator.remove();
-                foundEdge = true;
+    /**
+     * Removes the edge from the vertex at index u[i] to the vertex at index v[i], for every i, and from v[i] to u[i]
+     * if the graph is undirected. Each affected row is compacted once, whatever the amount of edges removed from it.
+     * Pairs of vertices without an edge are skipped.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @return true if at least one edge was removed
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is removed then
+     */
+    @Override
+    public boolean removeEdges(int[] u, int[] v) throws ElementNotFoundException {
+        if (u.length != v.length)
+            throw new IllegalArgumentException("Both arrays of indices must have the same length");
+        for (int i = 0; i < u.length; i++)
+            if (!isVertex(u[i]) || !isVertex(v[i]))
+                throw new ElementNotFoundException("No vertex was found at the given index");
+        int removed = removeFromRows(adjacencyLists, u, v);
+        if (isDirected)
+            removeFromRows(incomingLists, v, u);
+        else
+            removed += removeFromRows(adjacencyLists, v, u);
+        if (removed == 0)
+            return false;
+
+        entries -= removed;
+        if (weightCache != null && isWeighted) {
+            for (int i = 0; i < u.length; i++) {
+                if (u[i] != v[i]) {
+                    weightCache[u[i]][v[i]] = Double.MAX_VALUE;
+                    if (!isDirected)
+                        weightCache[v[i]][u[i]] = Double.MAX_VALUE;
+                }
             }
         }
-
-        if (!foundEdge)
-            throw new ElementNotFoundException("No edge was found between the given vertices");
-
+        dropSparseCache();
         return true;
     }
 
+    /**
+     * Removes from the row of each vertex 'from[i]' every entry of 'to[i]'. The pairs are grouped by row, so that each
+     * row is compacted once.
+     *
+     * @param rows the rows to be modified
+     * @param from the indices of the rows
+     * @param to   the indices to be removed from them
+     * @return the amount of entries removed
+     */
+    private int removeFromRows(List<AdjacencyRow> rows, int[] from, int[] to) {
+        long[] pairs = new long[from.length];
+        for (int i = 0; i < from.length; i++)
+            pairs[i] = ((long) from[i] << 32) | to[i];
+        Arrays.sort(pairs);
+        boolean[] marked = new boolean[rows.size()];
+        int removed = 0;
+        int i = 0;
+        while (i < pairs.length) {
+            int row = (int) (pairs[i] >>> 32);
+            int j = i;
+            for (; j < pairs.length && (int) (pairs[j] >>> 32) == row; j++)
+                marked[(int) pairs[j]] = true;
+            removed += rows.get(row).removeAll(marked);
+            for (int k = i; k < j; k++)
+                marked[(int) pairs[k]] = false;
+            i = j;
+        }
+        return removed;
+    }
+
     /**
      * Returns a list of vertices adjacent to the given node.
      *
@@ -267,10 +599,38 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
      */
     @Override
     public List<V> vertexAdjacent(V u) throws ElementNotFoundException {
-        if (vertices.get(u) == null)
+        Integer index = vertices.get(u);
+        if (index == null)
             throw new ElementNotFoundException("Given vertex not found in graph");
 
-        return adjacencyLists.get(vertices.get(u));
+        AdjacencyRow row = adjacencyLists.get(index);
+        List<V> adjacent = new ArrayList<>(row.size());
+        for (int i = 0; i < row.size(); i++)
+            adjacent.add(verticesByIndex.get(row.target(i)));
+        return adjacent;
+    }
+
+    /**
+     * Reports every edge that leaves the vertex at index 'index', in the order they were added.
+     *
+     * @param index    the index of the vertex whose edges are to be reported
+     * @param consumer the operation to perform on each neighbor
+     */
+    @Override
+    public void forEachNeighbor(int index, IntDoubleConsumer consumer) {
+        AdjacencyRow row = adjacencyLists.get(index);
+        for (int i = 0; i < row.size(); i++)
+            consumer.accept(row.target(i), row.weight(i));
+    }
+
+    /**
+     * Gives the amount of edges that arrive at the vertex at index 'index', loops included.
+     *
+     * @param index the index of the vertex
+     * @return said amount
+     */
+    int inDegree(int index) {
+        return (isDirected ? incomingLists : adjacencyLists).get(index).size();
     }
 
     /**
@@ -291,10 +651,10 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
 //		This return exists in case there is no need of being specific about the direction
         if (indexU != null && indexV != null) {
             if (isDirected)
-                return adjacencyLists.get(indexU).contains(v);
+                return adjacencyLists.get(indexU).contains(indexV);
                 // this returns if index connected and directed to v
             else
-                return adjacencyLists.get(indexU).contains(v) && adjacencyLists.get(indexV).contains(u);
+                return adjacencyLists.get(indexU).contains(indexV) && adjacencyLists.get(indexV).contains(indexU);
             // in case the graph is not connected then both should be connected to each other
         } else {
             if (indexU == null)
@@ -305,12 +665,80 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
     }
 
     /**
-     * Returns the weight matrix that represents the weight of all edges between vertices in this graph.
+     * Returns the weight matrix that represents the weight of all edges between vertices in this graph. Unless the
+     * graph is too sparse, the matrix is built once and then kept up to date by every change to the edges, and each
+     * call returns a copy of it, which the caller is free to modify.
      *
      * @return a matrix containing said values
      */
     @Override
     public double[][] weightMatrix() {
+        if (weightCache != null)
+            return copy(weightCache);
+        double[][] weightMatrix = buildWeightMatrix();
+        if (!isSparse())
+            weightCache = copy(weightMatrix);
+        return weightMatrix;
+    }
+
+    /**
+     * Copies every row of the given matrix.
+     *
+     * @param matrix the matrix to be copied
+     * @return said copy
+     */
+    private static double[][] copy(double[][] matrix) {
+        double[][] copy = new double[matrix.length][];
+        for (int i = 0; i < matrix.length; i++)
+            copy[i] = matrix[i].clone();
+        return copy;
+    }
+
+    /**
+     * Indicates if the adjacency rows fill less than {@link #CACHE_DENSITY} of the cells of the weight matrix.
+     *
+     * @return true if the graph is too sparse to keep its weight matrix
+     */
+    private boolean isSparse() {
+        long size = adjacencyLists.size();
+        return entries < CACHE_DENSITY * size * size;
+    }
+
+    /**
+     * Drops the cached weight matrix if removing edges left the graph too sparse for it.
+     */
+    private void dropSparseCache() {
+        if (weightCache != null && isSparse())
+            weightCache = null;
+    }
+
+    /**
+     * Returns the weight of the edge from the vertex at index 'i' to the vertex at index 'j'. Reads the cached weight
+     * matrix if there is one, or searches the adjacency row of 'i' otherwise.
+     *
+     * @param i index of the vertex from which the edge originates
+     * @param j index of the vertex to which the edge arrives
+     * @return the weight of the edge, 0.0 if 'i' equals 'j' and Double.MAX_VALUE if they are not connected
+     */
+    @Override
+    public double weight(int i, int j) {
+        if (weightCache != null)
+            return weightCache[i][j];
+        if (!isWeighted || verticesByIndex.get(i) == null)
+            return Double.MAX_VALUE;
+        if (i == j)
+            return 0.0;
+        AdjacencyRow row = adjacencyLists.get(i);
+        int position = row.lastIndexOf(j);
+        return position == -1 ? Double.MAX_VALUE : row.weight(position);
+    }
+
+    /**
+     * Builds a new weight matrix from the adjacency rows of this graph.
+     *
+     * @return a matrix containing the weight of every edge
+     */
+    private double[][] buildWeightMatrix() {
         int size = adjacencyLists.size();
         double[][] weightMatrix = new double[size][size];
 
@@ -318,14 +746,10 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
         for (int i = 0; i < size; i++)
             Arrays.fill(weightMatrix[i], Double.MAX_VALUE);
         if (isWeighted) {
-            for (V u : edges.keySet()) {
-                List<Map<V, Double>> listOfU = edges.get(u);
-                int indexOfU = vertices.get(u);
-                for (Map<V, Double> edgeOfU : listOfU)
-                    for (V v : edgeOfU.keySet()) {
-                        int indexOfV = vertices.get(v);
-                        weightMatrix[indexOfU][indexOfV] = edgeOfU.get(v);
-                    }
+            for (int indexOfU : vertices.values()) {
+                AdjacencyRow row = adjacencyLists.get(indexOfU);
+                for (int i = 0; i < row.size(); i++)
+                    weightMatrix[indexOfU][row.target(i)] = row.weight(i);
                 weightMatrix[indexOfU][indexOfU] = 0.0;
             }
         }
@@ -367,6 +791,21 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
         return indexU;
     }
 
+    /**
+     * Returns the vertex stored at the given index.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at said index
+     * @throws ElementNotFoundException if there is no vertex at said index
+     */
+    @Override
+    public V getVertex(int index) throws ElementNotFoundException {
+        V u = index >= 0 && index < verticesByIndex.size() ? verticesByIndex.get(index) : null;
+        if (u == null)
+            throw new ElementNotFoundException("No vertex was found at the given index");
+        return u;
+    }
+
     /**
      * Gives the amount of vertices in the graph.
      *
@@ -387,20 +826,67 @@ public class AdjacencyListGraph<V> implements IGraph<V> {
         return vertices;
     }
 
+    /**
+     * Returns a view of the edges in this graph, read from the adjacency rows as it is iterated. Each undirected edge
+     * is listed once.
+     *
+     * @return said view
+     */
     @Override
-    public List<Edge> getEdgesArray(){
-        return edgesArray;
+    public Collection<Edge> getEdgesArray() {
+        return new EdgeCollection<>(new Rows(), isDirected, isWeighted);
     }
 
     /**
-     * Gives a Map that pairs the starting vertex with a List of maps that represent all vertices
-     * it arrives to along with the value of its edge. If the graph is unweighted, the edges' value
-     * is set to Double.MAX_VALUE by default.
+     * Copies the edges in this graph from the adjacency rows into primitive columns. Each undirected edge is listed once.
+     *
+     * @return a new list with said edges
+     */
+    @Override
+    public EdgeList edgeList() {
+        return EdgeList.of(new Rows(), isDirected, adjacencyLists.size());
+    }
+
+    /**
+     * Gives a view that pairs the starting vertex with a List of maps that represent all vertices
+     * it arrives to along with the value of its edge, read from the adjacency rows. If the graph is unweighted, the
+     * edges' value is set to Double.MAX_VALUE by default.
      *
      * @return a Map that represents a vertex and all edges that originate from itself
      */
     @Override
     public Map<V, List<Map<V, Double>>> getEdges() {
-        return edges;
+        return new EdgeMap<>(new Rows(), vertices);
+    }
+
+    /**
+     * The adjacency rows as seen by the views of the edges. The cursor of an edge is its position in its row.
+     */
+    private final class Rows implements AdjacencyView<V> {
+
+        @Override
+        public int rows() {
+            return adjacencyLists.size();
+        }
+
+        @Override
+        public V vertex(int index) {
+            return verticesByIndex.get(index);
+        }
+
+        @Override
+        public int next(int x, int cursor) {
+            return cursor + 1 < adjacencyLists.get(x).size() ? cursor + 1 : -1;
+        }
+
+        @Override
+        public int target(int x, int cursor) {
+            return adjacencyLists.get(x).target(cursor);
+        }
+
+        @Override
+        public double weight(int x, int cursor) {
+            return adjacencyLists.get(x).weight(cursor);
+        }
     }
 }
@@ -2,6 +2,8 @@ package model;
 
 import exceptions.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
@@ -19,12 +21,14 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
     private static final int DEFAULT_CAPACITY = 10;
 
     /**
-     * The rate at which the matrix's length increases as it becomes full.
+     * The rate at which the matrix's length increases as it becomes full. Since the matrices are stored in tiles or in
+     * chunks of columns, growing never copies the cells already stored.
      */
     private static final double GROWTH_FACTOR = 1.5;
 
     /**
-     * The last index in the matrix at which a vertex exists.
+     * One more than the highest index in the matrix that has been given to a vertex. Slots under it may be empty if
+     * their vertex was removed, until they are reused or the graph is compacted.
      */
     private int size; //logic size
 
@@ -39,14 +43,17 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
     private boolean isWeighted;
 
     /**
-     * The matrix itself.
+     * The matrix itself. Each cell is a single bit that is set if there is an edge between the vertices.
      */
-    private double[][] adjacencyMatrix;
+    private BitMatrix adjacencyMatrix;
 
     /**
-     * The associated matrix containing the weight of all edged between nodes in the graph.
+     * The associated matrix containing the weight of all edged between nodes in the graph. Stored in tiles if the
+     * graph is directed, and as a packed upper triangle if it is undirected, since then the matrix is symmetric, unless
+     * it is memory-mapped, in which case both halves are written. Null if the graph is unweighted, since then every
+     * edge has the same value.
      */
-    private double[][] weightMatrix;
+    private MatrixStorage weightMatrix;
 
     /**
      * A Map that accesses any vertex in the graph through its index in the matrix.
@@ -59,25 +66,35 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
     private Map<V, Integer> verticesIndices;
 
     /**
-     * A map that pairs each vertex to a list representing all adjacent vertices along with the weight of the edge they share.
+     * A stack with the empty rows/columns of the matrix whose indices are lesser than the logical size. The slot freed
+     * last is reused first. Only the first 'freeCount' positions are valid.
      */
-    private Map<V, List<Map<V, Double>>> edges;
+    private int[] freeSlots;
 
     /**
-     * A Set that contains ordered, non-duplicate Integers of empty row/columns in the matrix whose values are lesser
-     * than the logical size.
+     * The amount of empty rows/columns in 'freeSlots'.
      */
-    private NavigableSet<Integer> emptySlots;
+    private int freeCount;
 
-    /**A list with the edges in this graph.*/
-    private ArrayList<Edge> edgesArray = new ArrayList<>();
+    /**
+     * The indices of the vertices with an edge arriving at each row/column of the matrix, so that removing a vertex
+     * does not need to scan its column. Only kept if the graph is directed, since otherwise the row of a vertex already
+     * holds its incoming edges. Rows of empty slots are empty.
+     */
+    private AdjacencyRow[] incoming;
+
+    /**
+     * The amount of vertices whose weights were read from an existing file when the weight matrix is memory-mapped.
+     * The edges of each of these vertices are restored as it is added again. Zero otherwise.
+     */
+    private int restoredVertices;
 
     /**
      * Constructs a new, empty matrix of double values of default length, along with two Map objects that interconnect
      * vertices to their indices in the matrix and indices in the matrix to their vertices.
      */
     public AdjacencyMatrixGraph() {
-        initialize(DEFAULT_CAPACITY);
+        initialize(false, false, DEFAULT_CAPACITY);
     }
 
     /**
@@ -89,9 +106,7 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
      * @param iw true if the graph is weighted.
      */
     public AdjacencyMatrixGraph(boolean id, boolean iw) {
-        initialize(DEFAULT_CAPACITY);
-        isDirected = id;
-        isWeighted = iw;
+        initialize(id, iw, DEFAULT_CAPACITY);
     }
 
     /**
@@ -101,7 +116,7 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
      * @param capacity the initial size of the adjacency matrix
      */
     public AdjacencyMatrixGraph(int capacity) {
-        initialize(capacity);
+        initialize(false, false, capacity);
     }
 
     /**
@@ -114,30 +129,87 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
      * @param capacity the initial size of the adjacency matrix
      */
     public AdjacencyMatrixGraph(boolean id, boolean iw, int capacity) {
-        initialize(capacity);
-        isDirected = id;
-        isWeighted = iw;
+        initialize(id, iw, capacity);
+    }
+
+    /**
+     * Constructs a new, empty weighted graph whose weight matrix is kept off the heap, in the given memory-mapped file,
+     * so that graphs too large for the heap can be stored. If the file already holds the weights of a previous graph,
+     * they are kept: adding the vertices again, in the order in which they were first added, restores the edges
+     * between them.
+     *
+     * @param id         true if the graph is directed.
+     * @param weightFile the file that backs the weight matrix
+     * @param capacity   the initial size of the adjacency matrix
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public AdjacencyMatrixGraph(boolean id, Path weightFile, int capacity) throws IOException {
+        MappedMatrix mapped = new MappedMatrix(weightFile, capacity, Double.MAX_VALUE, !id);
+        initialize(id, true, mapped.capacity(), mapped);
+        restoredVertices = mapped.restoredCapacity();
     }
 
     /**
-     * Auxiliary method used by the Constructor to set values to the class' fields. Creates the adjacency matrix.
+     * Auxiliary method used by the Constructor to set values to the class' fields. Creates the adjacency matrix and,
+     * if the graph is weighted, the weight matrix.
      *
+     * @param id       true if the graph is directed.
+     * @param iw       true if the graph is weighted.
+     * @param capacity the initial size of the adjacency matrix
+     */
+    private void initialize(boolean id, boolean iw, int capacity) {
+        initialize(id, iw, capacity, null);
+    }
+
+    /**
+     * Auxiliary method used by the Constructor to set values to the class' fields, using the given storage as the
+     * weight matrix.
+     *
+     * @param id       true if the graph is directed.
+     * @param iw       true if the graph is weighted.
      * @param capacity the initial size of the adjacency matrix
+     * @param weights  the storage of the weight matrix, or null to create the default one
      */
-    private void initialize(int capacity) {
-        isDirected = false;
-        isWeighted = false;
+    private void initialize(boolean id, boolean iw, int capacity, MatrixStorage weights) {
+        isDirected = id;
+        isWeighted = iw;
         size = 0;
-        adjacencyMatrix = new double[capacity][capacity];
-        weightMatrix = new double[capacity][capacity];
-        for (int i = 0; i < capacity; i++) {
-            for (int j = 0; j < capacity; j++)
-                weightMatrix[i][j] = Double.MAX_VALUE;
-        }
+        adjacencyMatrix = new BitMatrix(capacity);
+        weightMatrix = weights;
+        if (isWeighted && weightMatrix == null)
+            weightMatrix = newWeightMatrix(capacity);
         vertices = new HashMap<>();
         verticesIndices = new HashMap<>();
-        emptySlots = new TreeSet<>();
-        edges = new HashMap<>();
+        freeSlots = new int[DEFAULT_CAPACITY];
+        freeCount = 0;
+        incoming = isDirected ? new AdjacencyRow[adjacencyMatrix.capacity()] : null;
+    }
+
+    /**
+     * Creates an empty weight matrix: stored in tiles if the graph is directed, and as a packed upper triangle if it is
+     * undirected.
+     *
+     * @param capacity the length of the matrix
+     * @return said matrix, with every cell set to Double.MAX_VALUE
+     */
+    private MatrixStorage newWeightMatrix(int capacity) {
+        if (isDirected)
+            return new TiledMatrix(capacity, Double.MAX_VALUE);
+        else
+            return new PackedSymmetricMatrix(capacity, Double.MAX_VALUE);
+    }
+
+    /**
+     * Enlarges the adjacency matrix, the weight matrix and the index of incoming edges to the given length.
+     *
+     * @param newLength the new amount of rows and columns
+     */
+    private void grow(int newLength) {
+        adjacencyMatrix.grow(newLength);
+        if (isWeighted)
+            weightMatrix.grow(newLength);
+        if (isDirected)
+            incoming = Arrays.copyOf(incoming, newLength);
     }
 
     /**
@@ -153,43 +225,45 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
         boolean added;
         int index;
         if (verticesIndices.get(u) == null) {
-            if (emptySlots.isEmpty()) {//No reusable rows/columns in the matrix
-                if (size == adjacencyMatrix.length) {//Needs to initialize a bigger array
-                    int newLength = (int) (adjacencyMatrix.length * GROWTH_FACTOR);
-
-                    double[][] placeHolder = new double[newLength][newLength];//Temporarily holds the data of weightMatrix.
-                    for (int i = 0; i < adjacencyMatrix.length; i++) {
-                        for (int j = 0; j < adjacencyMatrix.length; j++)
-                            placeHolder[i][j] = adjacencyMatrix[i][j];
-                    }
-                    adjacencyMatrix = placeHolder;
-
-                    if (isWeighted) {
-                        double[][] weightPlaceholder = new double[newLength][newLength];//Temporarily holds the data of weightMatrix.
-                        for (int i = 0; i < newLength; i++) {
-                            for (int j = 0; j < newLength; j++) {
-                                if (i >= weightMatrix.length || j >= weightMatrix.length)
-                                    weightPlaceholder[i][j] = Double.MAX_VALUE;
-                                else weightPlaceholder[i][j] = weightMatrix[i][j];
-                            }
-                        }
-                        weightMatrix = weightPlaceholder;
-                    }
-                }
+            if (freeCount == 0) {//No reusable rows/columns in the matrix
+                if (size == adjacencyMatrix.capacity())//Needs to initialize a bigger array
+                    grow(Math.max(size + 1, (int) (size * GROWTH_FACTOR)));
                 size++;
                 index = size - 1;
             } else
-                index = emptySlots.pollFirst();
+                index = freeSlots[--freeCount];
             vertices.put(index, new Vertex(index, u));
             verticesIndices.put(u, index);
-            edges.put(u, new ArrayList<>());
-            weightMatrix[index][index] = 0.0;
+            if (isDirected && incoming[index] == null)
+                incoming[index] = new AdjacencyRow(false);
+            if (index < restoredVertices)
+                restoreEdges(index);
+            if (isWeighted)
+                weightMatrix.set(index, index, 0.0);
             added = true;
         } else
             throw new ElementAlreadyPresentException("Element is already present");
         return added;
     }
 
+    /**
+     * Adds every vertex of the given collection to the graph, in iteration order. Both matrices are grown at most once,
+     * to the exact length needed.
+     *
+     * @param us the new vertices to be added
+     * @return true if the vertices were added
+     * @throws ElementAlreadyPresentException if a vertex was already present. The vertices before it are kept
+     */
+    @Override
+    public boolean addVertices(Collection<? extends V> us) throws ElementAlreadyPresentException {
+        int needed = size + Math.max(0, us.size() - freeCount);
+        if (needed > adjacencyMatrix.capacity())
+            grow(needed);
+        for (V u : us)
+            addVertex(u);
+        return true;
+    }
+
     /**
      * Adds a directed edge from vertex 'u' to vertex 'v' if the graph is directed. Otherwise, adds an edge between
      * vertices 'u' and 'v'. Admits loops.
@@ -205,25 +279,11 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
             throw new WrongEdgeTypeException("Tried to add an unweighted edge to a weighted graph.");
         Integer x = verticesIndices.get(u);
         Integer y = verticesIndices.get(v);
-        if (x != null && y != null) {
-            Map<V, Double> mapOfV = new HashMap<>();
-            mapOfV.put(v, Double.MAX_VALUE);
-            edges.get(u).add(mapOfV);
-            adjacencyMatrix[x][y] = 1;
-            if (!isDirected) {
-                adjacencyMatrix[y][x] = 1;
-                Map<V, Double> mapOfU = new HashMap<>();
-                mapOfU.put(u, Double.MAX_VALUE);
-                edges.get(v).add(mapOfU);
-            }
-        } else {
-            if (x == null)
-                throw new ElementNotFoundException("First element not found in graph");
-            else
-                throw new ElementNotFoundException("Second element not found in graph");
-        }
-        Edge e = new Edge(u, v);
-        edgesArray.add(e);
+        if (x == null)
+            throw new ElementNotFoundException("First element not found in graph");
+        else if (y == null)
+            throw new ElementNotFoundException("Second element not found in graph");
+        link(x, y, Double.MAX_VALUE);
         return true;
     }
 
@@ -244,32 +304,170 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
 
         Integer x = verticesIndices.get(u);
         Integer y = verticesIndices.get(v);
-        if (x != null && y != null) {
-            Map<V, Double> mapOfV = new HashMap<>();
-            mapOfV.put(v, w);
-            edges.get(u).add(mapOfV);
-            adjacencyMatrix[x][y] = 1;
-            weightMatrix[x][y] = w;
-            if (!isDirected) {
-                adjacencyMatrix[y][x] = 1;
-                weightMatrix[y][x] = w;
-                Map<V, Double> mapOfU = new HashMap<>();
-                mapOfU.put(u, w);
-                edges.get(v).add(mapOfU);
-            }
-        } else {
-            if (x == null)
-                throw new ElementNotFoundException("First element not found in graph");
-            else
-                throw new ElementNotFoundException("Second element not found in graph");
+        if (x == null)
+            throw new ElementNotFoundException("First element not found in graph");
+        else if (y == null)
+            throw new ElementNotFoundException("Second element not found in graph");
+        link(x, y, w);
+        return true;
+    }
+
+    /**
+     * Adds an unweighted edge from the vertex at index u[i] to the vertex at index v[i], for every i. If the graph is
+     * undirected, also adds the edges in the opposite direction.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @return true if the edges were added
+     * @throws WrongEdgeTypeException   if the graph is weighted
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is added then
+     */
+    @Override
+    public boolean addEdges(int[] u, int[] v) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (isWeighted)
+            throw new WrongEdgeTypeException("Tried to add an unweighted edge to a weighted graph.");
+        linkAll(u, v, null);
+        return true;
+    }
+
+    /**
+     * Adds an edge of weight w[i] from the vertex at index u[i] to the vertex at index v[i], for every i. If the graph
+     * is undirected, also adds the edges in the opposite direction.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @param w the weights of the edges
+     * @return true if the edges were added
+     * @throws WrongEdgeTypeException   if the graph is unweighted
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is added then
+     */
+    @Override
+    public boolean addEdges(int[] u, int[] v, double[] w) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (!isWeighted)
+            throw new WrongEdgeTypeException("Tried to add a weighted edge to an unweighted graph.");
+        if (w.length != u.length)
+            throw new IllegalArgumentException("Every edge needs a weight");
+        linkAll(u, v, w);
+        return true;
+    }
+
+    /**
+     * Adds the given edges after checking that every index belongs to a vertex.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @param w the weights of the edges, or null if the graph is unweighted
+     * @throws ElementNotFoundException if any index does not belong to a vertex
+     */
+    private void linkAll(int[] u, int[] v, double[] w) throws ElementNotFoundException {
+        if (u.length != v.length)
+            throw new IllegalArgumentException("Both arrays of indices must have the same length");
+        for (int i = 0; i < u.length; i++)
+            if (!vertices.containsKey(u[i]) || !vertices.containsKey(v[i]))
+                throw new ElementNotFoundException("No vertex was found at the given index");
+        for (int i = 0; i < u.length; i++)
+            link(u[i], v[i], w != null ? w[i] : Double.MAX_VALUE);
+    }
+
+    /**
+     * Adds an edge between the vertices at the given indices, in both directions if the graph is undirected.
+     *
+     * @param x the index of the vertex from which the edge leaves
+     * @param y the index of the vertex at which the edge arrives
+     * @param w the weight of the edge. Ignored if the graph is unweighted
+     */
+    private void link(int x, int y, double w) {
+        if (isDirected && !adjacencyMatrix.get(x, y))
+            incoming[y].add(x, Double.MAX_VALUE);
+        adjacencyMatrix.set(x, y);
+        if (isWeighted)
+            weightMatrix.set(x, y, w);//Also sets [y][x] if the graph is undirected.
+        if (!isDirected)
+            adjacencyMatrix.set(y, x);
+    }
+
+    /**
+     * Changes the weight of the edge from 'u' to 'v', and from 'v' to 'u' if the graph is undirected, in the weight
+     * matrix.
+     *
+     * @param u vertex from which the edge originates
+     * @param v vertex to which the edge arrives
+     * @param w the new weight
+     * @return true if the weight was changed, false if there is no such edge
+     * @throws WrongEdgeTypeException   if the graph is unweighted
+     * @throws ElementNotFoundException if either 'u' or 'v' don't belong to the graph
+     */
+    @Override
+    public boolean setWeight(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (!isWeighted)
+            throw new WrongEdgeTypeException("Tried to set the weight of an edge in an unweighted graph.");
+        Integer x = verticesIndices.get(u);
+        Integer y = verticesIndices.get(v);
+        if (x == null)
+            throw new ElementNotFoundException("First element not found in graph");
+        else if (y == null)
+            throw new ElementNotFoundException("Second element not found in graph");
+        if (!adjacencyMatrix.get(x, y))
+            return false;
+        weightMatrix.set(x, y, w);//Also sets [y][x] if the graph is undirected.
+        return true;
+    }
+
+    /**
+     * Adds an edge of weight 'w' from 'u' to 'v', or lowers the weight of the existing one to 'w' if it is lighter.
+     *
+     * @param u vertex from which the edge originates
+     * @param v vertex to which the edge arrives
+     * @param w the weight of the edge
+     * @return true if the edge was added or its weight was lowered
+     * @throws WrongEdgeTypeException   if the graph is unweighted
+     * @throws ElementNotFoundException if either 'u' or 'v' don't belong to the graph
+     */
+    @Override
+    public boolean mergeEdgeMin(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        if (!isWeighted)
+            throw new WrongEdgeTypeException("Tried to add a weighted edge to an unweighted graph.");
+        Integer x = verticesIndices.get(u);
+        Integer y = verticesIndices.get(v);
+        if (x == null)
+            throw new ElementNotFoundException("First element not found in graph");
+        else if (y == null)
+            throw new ElementNotFoundException("Second element not found in graph");
+        if (!adjacencyMatrix.get(x, y)) {
+            link(x, y, w);
+            return true;
         }
-        Edge e = new Edge(u, v, w);
-        edgesArray.add(e);
+        if (w >= weightMatrix.get(x, y))
+            return false;
+        weightMatrix.set(x, y, w);
         return true;
     }
 
     /**
-     * Attempts to remove vertex 'u' from the graph.
+     * Restores the edges between the vertex at the given index and the vertices at lower indices, as read from the
+     * memory-mapped weight matrix. Loops are not restored, since the diagonal holds zero.
+     *
+     * @param index the index of the vertex that has just been added again
+     */
+    private void restoreEdges(int index) {
+        for (int k = 0; k < index; k++) {
+            if (vertices.containsKey(k)) {
+                double w = weightMatrix.get(k, index);
+                if (w != Double.MAX_VALUE)
+                    link(k, index, w);
+                if (isDirected) {
+                    w = weightMatrix.get(index, k);
+                    if (w != Double.MAX_VALUE)
+                        link(index, k, w);
+                }
+            }
+        }
+    }
+
+    /**
+     * Attempts to remove vertex 'u' from the graph. Only the cells of its own edges are cleared: those of its row,
+     * found by scanning the row, and those of its column, found in the index of incoming edges if the graph is directed
+     * or in its row otherwise. Besides them, only the index of incoming edges of the vertices it reaches is updated.
      *
      * @param u vertex to be removed from the graph
      * @return true if 'u' exists in the graph. False otherwise
@@ -279,23 +477,32 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
     public boolean removeVertex(V u) throws ElementNotFoundException {
         Integer position = verticesIndices.get(u);
         if (position != null) {
-            vertices.remove(position);
-            verticesIndices.remove(u);
-            emptySlots.add(position);
-
-            edges.remove(u);
-            for (List<Map<V, Double>> list : edges.values()) {
-                for (Map<V, Double> edge : list)
-                    edge.remove(u);
+            if (isDirected) {
+                AdjacencyRow sources = incoming[position];
+                for (int k = 0; k < sources.size(); k++) {
+                    adjacencyMatrix.clear(sources.target(k), position);
+                    if (isWeighted)
+                        weightMatrix.clear(sources.target(k), position);
+                }
+                sources.clear();
             }
-
-            for (int i = 0; i < size; i++) {//Removes 'u' from both matrices.
-                adjacencyMatrix[position][i] = 0;
-                adjacencyMatrix[i][position] = 0;
-                weightMatrix[position][i] = Double.MAX_VALUE;
-                weightMatrix[i][position] = Double.MAX_VALUE;
+            for (int t = adjacencyMatrix.nextSetBit(position, 0); t != -1;
+                 t = adjacencyMatrix.nextSetBit(position, t + 1)) {
+                adjacencyMatrix.clear(position, t);
+                if (isWeighted)
+                    weightMatrix.clear(position, t);//Also clears [t][position] if the graph is undirected.
+                if (isDirected)
+                    incoming[t].removeAll(position);
+                else
+                    adjacencyMatrix.clear(t, position);
             }
-            size--;
+            if (isWeighted)
+                weightMatrix.clear(position, position);
+            vertices.remove(position);
+            verticesIndices.remove(u);
+            if (freeCount == freeSlots.length)
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            freeSlots[freeCount++] = position;
         } else
             throw new ElementNotFoundException("Element is not in the graph");
         return true;
@@ -312,39 +519,57 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
      */
     @Override
     public boolean removeEdge(V u, V v) throws ElementNotFoundException {
-        boolean removed = false;
         Integer x = verticesIndices.get(u);
         Integer y = verticesIndices.get(v);
-        if (x != null && y != null) {
-            if (adjacencyMatrix[x][y] != 0) {
-                removed = true;
-                adjacencyMatrix[x][y] = 0;
-                weightMatrix[x][y] = Double.MAX_VALUE;
-                if (!isDirected) {
-                    adjacencyMatrix[y][x] = 0;
-                    weightMatrix[y][x] = Double.MAX_VALUE;
-                }
-
-                edges.get(u).removeIf(next -> next.get(v) != null);
+        if (x == null)
+            throw new ElementNotFoundException("First parameter was not found in graph");
+        else if (y == null)
+            throw new ElementNotFoundException("Second parameter was not found in graph");
+        return unlink(x, y);
+    }
 
-                if (isDirected) {
-                    for (Iterator<List<Map<V, Double>>> iterator = edges.values().iterator(); iterator.hasNext(); ) {
-                        List<Map<V, Double>> next = iterator.next();
-                        for (Map<V, Double> edgeMap : next)
-                            if (edgeMap.get(u) != null)
-                                iterator.remove();
-                    }
-                }
-            }
-        } else {
-            if (x == null)
-                throw new ElementNotFoundException("First parameter was not found in graph");
-            else
-                throw new ElementNotFoundException("Second parameter was not found in graph");
-        }
+    /**
+     * Removes the edge from the vertex at index u[i] to the vertex at index v[i], for every i, and from v[i] to u[i]
+     * if the graph is undirected. Pairs of vertices without an edge are skipped.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @return true if at least one edge was removed
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is removed then
+     */
+    @Override
+    public boolean removeEdges(int[] u, int[] v) throws ElementNotFoundException {
+        if (u.length != v.length)
+            throw new IllegalArgumentException("Both arrays of indices must have the same length");
+        for (int i = 0; i < u.length; i++)
+            if (!vertices.containsKey(u[i]) || !vertices.containsKey(v[i]))
+                throw new ElementNotFoundException("No vertex was found at the given index");
+        boolean removed = false;
+        for (int i = 0; i < u.length; i++)
+            removed |= unlink(u[i], v[i]);
         return removed;
     }
 
+    /**
+     * Clears the edge between the vertices at the given indices from the matrices and the index of incoming edges.
+     *
+     * @param x index of the vertex from which the edge originates
+     * @param y index of the vertex to which the edge arrives
+     * @return true if there was such an edge
+     */
+    private boolean unlink(int x, int y) {
+        if (!adjacencyMatrix.get(x, y))
+            return false;
+        adjacencyMatrix.clear(x, y);
+        if (isWeighted)
+            weightMatrix.set(x, y, Double.MAX_VALUE);//Also clears [y][x] if the graph is undirected.
+        if (isDirected)
+            incoming[y].removeAll(x);
+        else
+            adjacencyMatrix.clear(y, x);
+        return true;
+    }
+
     /**
      * Returns a List<V> containing all vertices adjacent to 'v'.
      *
@@ -359,14 +584,38 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
         List<V> adjacentVertices;
         if (position != null) {
             adjacentVertices = new LinkedList<>();
-            for (int i = 0; i < size; i++)
-                if (adjacencyMatrix[position][i] == 1)
-                    adjacentVertices.add((V) vertices.get(i).info);
+            for (int i = adjacencyMatrix.nextSetBit(position, 0); i != -1; i = adjacencyMatrix.nextSetBit(position, i + 1))
+                adjacentVertices.add((V) vertices.get(i).info);
         } else
             throw new ElementNotFoundException("Parameter not found in graph");
         return adjacentVertices;
     }
 
+    /**
+     * Gives the amount of edges that arrive at the vertex at index 'index', loops included, from the index of incoming
+     * edges kept for directed graphs.
+     * <pre> the graph is directed
+     *
+     * @param index the index of the vertex
+     * @return said amount
+     */
+    int inDegree(int index) {
+        return incoming[index].size();
+    }
+
+    /**
+     * Reports every edge that leaves the vertex at index 'index' by scanning its row of the matrix one word at a time,
+     * without building a list.
+     *
+     * @param index    the index of the vertex whose edges are to be reported
+     * @param consumer the operation to perform on each neighbor
+     */
+    @Override
+    public void forEachNeighbor(int index, IntDoubleConsumer consumer) {
+        for (int i = adjacencyMatrix.nextSetBit(index, 0); i != -1; i = adjacencyMatrix.nextSetBit(index, i + 1))
+            consumer.accept(i, isWeighted ? weightMatrix.get(index, i) : Double.MAX_VALUE);
+    }
+
     /**
      * If the graph is undirected, determines if vertices 'u' and 'v' share an edge. Otherwise, determines if there is
      * a directed edge from 'u' to 'v' and 'v' to 'u'.
@@ -383,7 +632,7 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
 
         // This return exists in case there is no need of being specific about the direction
         if (x != null && y != null) {
-            return adjacencyMatrix[x][y] == 1;
+            return adjacencyMatrix.get(x, y);
             // this returns if index connected and directed to v
         } else {
             if (x == null)
@@ -395,13 +644,37 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
 
     /**
      * Returns the weight matrix containing the weights of every edge, directed or not, between all vertices in the
-     * graph.
+     * graph. Since the weights are stored in tiles or in a packed triangle, a new matrix is built on every call, so {@link #weight(int, int)}
+     * should be preferred when only some cells are needed. If the graph is unweighted, the only values besides
+     * Double.MAX_VALUE are the 0.0 in the diagonal.
      *
      * @return the matrix containing all weights in the graph
      */
     @Override
     public double[][] weightMatrix() {
-        return weightMatrix;
+        if (isWeighted)
+            return weightMatrix.toArray(size);
+        double[][] unweighted = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            Arrays.fill(unweighted[i], Double.MAX_VALUE);
+            if (vertices.containsKey(i))
+                unweighted[i][i] = 0.0;
+        }
+        return unweighted;
+    }
+
+    /**
+     * Returns the weight of the edge from the vertex at index 'i' to the vertex at index 'j'.
+     *
+     * @param i index of the vertex from which the edge originates
+     * @param j index of the vertex to which the edge arrives
+     * @return the weight of the edge, 0.0 if 'i' equals 'j' and Double.MAX_VALUE if they are not connected
+     */
+    @Override
+    public double weight(int i, int j) {
+        if (isWeighted)
+            return weightMatrix.get(i, j);
+        return i == j && vertices.containsKey(i) ? 0.0 : Double.MAX_VALUE;
     }
 
     /**
@@ -425,7 +698,9 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
     }
 
     /**
-     * Gives the amount of vertices in the graph.
+     * Gives the logical size of the graph, that is, one more than the highest index given to a vertex, which bounds
+     * every index returned by {@link #getIndex(Object)}. It equals the amount of vertices unless some were removed
+     * and their slots have not been reused, which {@link #compact()} fixes.
      *
      * @return an int with said amount.
      */
@@ -434,6 +709,76 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
         return size;
     }
 
+    /**
+     * Renumbers the vertices densely, keeping their relative order, and shrinks every matrix to the amount of
+     * vertices, so that the slots of removed vertices no longer take memory or get scanned. Indices given before are
+     * no longer valid. If the weight matrix is memory-mapped, its cells are moved within the file, which keeps its
+     * length.
+     */
+    @SuppressWarnings("unchecked")
+    public void compact() {
+        int n = verticesIndices.size();
+        int[] newIndex = new int[size];
+        int[] oldIndex = new int[n];
+        int next = 0;
+        for (int x = 0; x < size; x++) {
+            newIndex[x] = vertices.containsKey(x) ? next : -1;
+            if (newIndex[x] != -1)
+                oldIndex[next++] = x;
+        }
+        int capacity = Math.max(n, 1);
+
+        BitMatrix newAdjacency = new BitMatrix(capacity);
+        AdjacencyRow[] newIncoming = isDirected ? new AdjacencyRow[capacity] : null;
+        if (isDirected)
+            for (int y = 0; y < n; y++)
+                newIncoming[y] = new AdjacencyRow(false);
+        for (int x = 0; x < n; x++) {
+            for (int y = adjacencyMatrix.nextSetBit(oldIndex[x], 0); y != -1;
+                 y = adjacencyMatrix.nextSetBit(oldIndex[x], y + 1)) {
+                newAdjacency.set(x, newIndex[y]);
+                if (isDirected)
+                    newIncoming[newIndex[y]].add(x, Double.MAX_VALUE);
+            }
+        }
+
+        if (isWeighted) {
+            if (weightMatrix instanceof MappedMatrix) {
+                //Cells are moved in the order of their new positions in the file, which are never after the old ones.
+                for (int m = 0; m < n; m++) {
+                    for (int i = 0; i < m; i++)
+                        weightMatrix.set(i, m, weightMatrix.get(oldIndex[i], oldIndex[m]));
+                    for (int j = 0; j <= m; j++)
+                        weightMatrix.set(m, j, weightMatrix.get(oldIndex[m], oldIndex[j]));
+                }
+                for (int x = n; x < size; x++)
+                    weightMatrix.clear(x);
+            } else {
+                MatrixStorage newWeights = newWeightMatrix(capacity);
+                for (int x = 0; x < n; x++) {
+                    newWeights.set(x, x, 0.0);
+                    for (int y = adjacencyMatrix.nextSetBit(oldIndex[x], 0); y != -1;
+                         y = adjacencyMatrix.nextSetBit(oldIndex[x], y + 1))
+                        newWeights.set(x, newIndex[y], weightMatrix.get(oldIndex[x], y));
+                }
+                weightMatrix = newWeights;
+            }
+        }
+
+        Map<Integer, Vertex> newVertices = new HashMap<>();
+        for (int x = 0; x < n; x++) {
+            V u = (V) vertices.get(oldIndex[x]).info;
+            newVertices.put(x, new Vertex(x, u));
+            verticesIndices.put(u, x);
+        }
+        vertices = newVertices;
+        adjacencyMatrix = newAdjacency;
+        incoming = newIncoming;
+        size = n;
+        freeCount = 0;
+        restoredVertices = 0;
+    }
+
     /**
      * Gives a Map that pairs vertices with their index
      *
@@ -444,21 +789,70 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
         return verticesIndices;
     }
 
+    /**
+     * Returns a view of the edges in this graph, read from the adjacency matrix as it is iterated, so that no Edge is
+     * kept per added edge. Each undirected edge is listed once.
+     *
+     * @return said view
+     */
     @Override
-    public List<Edge> getEdgesArray() {
-        return edgesArray;
+    public Collection<Edge> getEdgesArray() {
+        return new EdgeCollection<>(new Rows(), isDirected, isWeighted);
     }
 
     /**
-     * Gives a Map that pairs the starting vertex with a List of maps that represent all vertices
-     * it arrives to along with the value of its edge. If the graph is unweighted, the edges' value
-     * is set to Double.MAX_VALUE by default.
+     * Copies the edges in this graph from the adjacency matrix into primitive columns. Each undirected edge is listed once.
+     *
+     * @return a new list with said edges
+     */
+    @Override
+    public EdgeList edgeList() {
+        return EdgeList.of(new Rows(), isDirected, size);
+    }
+
+    /**
+     * Gives a view that pairs the starting vertex with a List of maps that represent all vertices
+     * it arrives to along with the value of its edge, read from the matrices. If the graph is unweighted, the edges'
+     * value is set to Double.MAX_VALUE by default.
      *
      * @return a Map that represents a vertex and all edges that originate from itself
      */
     @Override
     public Map<V, List<Map<V, Double>>> getEdges() {
-        return edges;
+        return new EdgeMap<>(new Rows(), verticesIndices);
+    }
+
+    /**
+     * The rows of the matrices as seen by the views of the edges. The cursor of an edge is the column of its cell.
+     */
+    private final class Rows implements AdjacencyView<V> {
+
+        @Override
+        public int rows() {
+            return size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V vertex(int index) {
+            Vertex vertex = vertices.get(index);
+            return vertex != null ? (V) vertex.info : null;
+        }
+
+        @Override
+        public int next(int x, int cursor) {
+            return adjacencyMatrix.nextSetBit(x, cursor + 1);
+        }
+
+        @Override
+        public int target(int x, int cursor) {
+            return cursor;
+        }
+
+        @Override
+        public double weight(int x, int cursor) {
+            return isWeighted ? weightMatrix.get(x, cursor) : Double.MAX_VALUE;
+        }
     }
 
     /**
@@ -474,4 +868,20 @@ public class AdjacencyMatrixGraph<V> implements IGraph<V> {
             throw new ElementNotFoundException("Parameter not found in graph");
         return verticesIndices.get(u);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the vertex stored at the given index of the matrix.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at said index
+     * @throws ElementNotFoundException if there is no vertex at said index
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getVertex(int index) throws ElementNotFoundException {
+        Vertex vertex = vertices.get(index);
+        if (vertex == null)
+            throw new ElementNotFoundException("No vertex was found at the given index");
+        return (V) vertex.info;
+    }
+}
@@ -0,0 +1,311 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A growable row of an adjacency list that stores the indices of the adjacent vertices and the weights of the edges
+ * in primitive arrays, in the order in which the edges were added.
+ * <p>
+ * Once a row holds more than {@link #INDEX_THRESHOLD} edges, it also keeps an open-addressing hash index from each
+ * adjacent vertex to the position of its last edge, so that finding an edge takes constant time instead of a scan.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+final class AdjacencyRow {
+
+    /**
+     * The length of the arrays of a new row.
+     */
+    private static final int DEFAULT_CAPACITY = 4;
+
+    /**
+     * The amount of edges above which the row keeps a hash index of its adjacent vertices.
+     */
+    static final int INDEX_THRESHOLD = 16;
+
+    /**
+     * The index of the vertex at which each edge arrives.
+     */
+    private int[] targets;
+
+    /**
+     * The weight of each edge. Null if the row belongs to an unweighted graph.
+     */
+    private double[] weights;
+
+    /**
+     * The amount of edges in this row.
+     */
+    private int size;
+
+    /**
+     * Hash index of the adjacent vertices. Each slot holds the position plus one of the last edge that arrives at a
+     * vertex, or 0 if it is empty. Null while the row has no more than INDEX_THRESHOLD edges.
+     */
+    private int[] index;
+
+    /**
+     * The amount of occupied slots in 'index'.
+     */
+    private int indexed;
+
+    /**
+     * Creates an empty row.
+     *
+     * @param weighted true if the weight of each edge has to be stored
+     */
+    AdjacencyRow(boolean weighted) {
+        targets = new int[DEFAULT_CAPACITY];
+        weights = weighted ? new double[DEFAULT_CAPACITY] : null;
+    }
+
+    /**
+     * Appends an edge to this row.
+     *
+     * @param target the index of the vertex at which the edge arrives
+     * @param weight the weight of the edge. Ignored if the row is unweighted
+     */
+    void add(int target, double weight) {
+        if (size == targets.length)
+            ensureCapacity(targets.length * 2);
+        targets[size] = target;
+        if (weights != null)
+            weights[size] = weight;
+        size++;
+        if (index != null)
+            index(target, size - 1);
+        else if (size > INDEX_THRESHOLD)
+            buildIndex();
+    }
+
+    /**
+     * Makes room for at least the given amount of edges without any further resizing.
+     *
+     * @param capacity the amount of edges the row has to be able to hold
+     */
+    void ensureCapacity(int capacity) {
+        if (capacity > targets.length) {
+            targets = Arrays.copyOf(targets, capacity);
+            if (weights != null)
+                weights = Arrays.copyOf(weights, capacity);
+        }
+    }
+
+    /**
+     * Gives the amount of edges in this row.
+     *
+     * @return said amount
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the vertex at which the edge in the given position arrives.
+     *
+     * @param position the position of the edge in this row
+     * @return said index
+     */
+    int target(int position) {
+        return targets[position];
+    }
+
+    /**
+     * Returns the weight of the edge in the given position.
+     *
+     * @param position the position of the edge in this row
+     * @return its weight, or Double.MAX_VALUE if the row is unweighted
+     */
+    double weight(int position) {
+        return weights != null ? weights[position] : Double.MAX_VALUE;
+    }
+
+    /**
+     * Searches for the last edge that arrives at the given vertex.
+     *
+     * @param target the index of the vertex
+     * @return the position of said edge, or -1 if there is none
+     */
+    int lastIndexOf(int target) {
+        if (index != null) {
+            int mask = index.length - 1;
+            for (int slot = hash(target) & mask; index[slot] != 0; slot = (slot + 1) & mask)
+                if (targets[index[slot] - 1] == target)
+                    return index[slot] - 1;
+            return -1;
+        }
+        for (int i = size - 1; i >= 0; i--)
+            if (targets[i] == target)
+                return i;
+        return -1;
+    }
+
+    /**
+     * Indicates if any edge of this row arrives at the given vertex.
+     *
+     * @param target the index of the vertex
+     * @return true if such an edge exists
+     */
+    boolean contains(int target) {
+        return lastIndexOf(target) != -1;
+    }
+
+    /**
+     * Removes every edge that arrives at the given vertex, keeping the order of the remaining ones.
+     *
+     * @param target the index of the vertex
+     * @return the amount of edges removed
+     */
+    int removeAll(int target) {
+        if (index != null && lastIndexOf(target) == -1)
+            return 0;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (targets[i] != target) {
+                targets[kept] = targets[i];
+                if (weights != null)
+                    weights[kept] = weights[i];
+                kept++;
+            }
+        }
+        return shrink(kept);
+    }
+
+    /**
+     * Removes every edge that arrives at a marked vertex, keeping the order of the remaining ones.
+     *
+     * @param marked true for the index of each vertex whose edges are to be removed
+     * @return the amount of edges removed
+     */
+    int removeAll(boolean[] marked) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!marked[targets[i]]) {
+                targets[kept] = targets[i];
+                if (weights != null)
+                    weights[kept] = weights[i];
+                kept++;
+            }
+        }
+        return shrink(kept);
+    }
+
+    /**
+     * Sets the amount of edges after a removal has moved the kept ones to the front.
+     *
+     * @param kept the amount of edges kept
+     * @return the amount of edges removed
+     */
+    private int shrink(int kept) {
+        int removed = size - kept;
+        size = kept;
+        if (removed > 0 && index != null) {//Positions have moved, so the index is built again or dropped.
+            if (size > INDEX_THRESHOLD)
+                buildIndex();
+            else
+                index = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Changes the weight of every edge that arrives at the given vertex.
+     *
+     * @param target the index of the vertex
+     * @param weight the new weight. Ignored if the row is unweighted
+     * @return the amount of edges that arrive at said vertex
+     */
+    int setWeights(int target, double weight) {
+        if (index != null && lastIndexOf(target) == -1)
+            return 0;
+        int changed = 0;
+        for (int i = 0; i < size; i++) {
+            if (targets[i] == target) {
+                if (weights != null)
+                    weights[i] = weight;
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Makes every edge that arrives at a vertex arrive at another one instead, keeping its position and weight.
+     *
+     * @param target      the index of the vertex at which the edges arrive
+     * @param replacement the index of the vertex at which they will arrive
+     * @return the amount of edges changed
+     */
+    int replaceAll(int target, int replacement) {
+        if (index != null && lastIndexOf(target) == -1)
+            return 0;
+        int replaced = 0;
+        for (int i = 0; i < size; i++) {
+            if (targets[i] == target) {
+                targets[i] = replacement;
+                replaced++;
+            }
+        }
+        if (replaced > 0 && index != null)
+            buildIndex();
+        return replaced;
+    }
+
+    /**
+     * Removes every edge from this row.
+     */
+    void clear() {
+        size = 0;
+        index = null;
+    }
+
+    /**
+     * Builds the hash index from scratch, with room for four slots per edge.
+     */
+    private void buildIndex() {
+        int capacity = 2 * INDEX_THRESHOLD;
+        while (capacity < size * 4)
+            capacity *= 2;
+        index = new int[capacity];
+        indexed = 0;
+        for (int i = 0; i < size; i++)
+            index(targets[i], i);
+    }
+
+    /**
+     * Records in the hash index that the last edge arriving at the given vertex is at the given position. Builds a
+     * larger index if it becomes half full.
+     *
+     * @param target   the index of the vertex at which the edge arrives
+     * @param position the position of the edge in this row
+     */
+    private void index(int target, int position) {
+        if ((indexed + 1) * 2 > index.length) {
+            buildIndex();//Every edge up to 'position' is already in the arrays.
+            return;
+        }
+        int mask = index.length - 1;
+        int slot = hash(target) & mask;
+        while (index[slot] != 0) {
+            if (targets[index[slot] - 1] == target) {
+                index[slot] = position + 1;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+        indexed++;
+    }
+
+    /**
+     * Spreads the bits of a vertex index, since consecutive indices would otherwise fill consecutive slots.
+     *
+     * @param target the index of the vertex
+     * @return its hash
+     */
+    private static int hash(int target) {
+        int hash = target * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
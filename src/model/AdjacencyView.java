@@ -0,0 +1,56 @@
+package model;
+
+/**
+ * Read access to the rows of a graph's own adjacency storage, so that its edges can be listed on demand instead of
+ * being kept in a second structure. Each row is walked with a cursor whose meaning is up to the graph: a position in
+ * an adjacency list, a column of a matrix or an offset of a compressed array.
+ *
+ * @param <V> the type of the vertices
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+interface AdjacencyView<V> {
+
+    /**
+     * Gives the amount of rows, which bounds the index of every vertex.
+     *
+     * @return said amount
+     */
+    int rows();
+
+    /**
+     * Returns the vertex stored at the given index.
+     *
+     * @param index the index of the vertex
+     * @return said vertex, or null if no vertex is stored there
+     */
+    V vertex(int index);
+
+    /**
+     * Moves to the next edge of a row.
+     * <pre> a vertex is stored at index 'x'
+     *
+     * @param x      the index of the row
+     * @param cursor the cursor of the current edge, or -1 to start from the first one
+     * @return the cursor of the next edge, or -1 if there are no more edges in the row
+     */
+    int next(int x, int cursor);
+
+    /**
+     * Returns the index of the vertex at which the edge under the cursor arrives.
+     *
+     * @param x      the index of the row
+     * @param cursor the cursor of the edge
+     * @return said index
+     */
+    int target(int x, int cursor);
+
+    /**
+     * Returns the weight of the edge under the cursor.
+     *
+     * @param x      the index of the row
+     * @param cursor the cursor of the edge
+     * @return said weight, or Double.MAX_VALUE if the graph is unweighted
+     */
+    double weight(int x, int cursor);
+}
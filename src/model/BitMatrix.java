@@ -0,0 +1,137 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A square matrix of boolean flags stored in tiles of 64 by 64 cells. Each tile is an array of 64 longs, one per row,
+ * where bit 'j % 64' holds column 'j', so a row can be scanned one word at a time. Tiles are only allocated once one
+ * of their cells is set, and enlarging the matrix only enlarges the directory of tiles, without copying any of them.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+final class BitMatrix {
+
+    /**
+     * The amount of rows and columns held by each tile. Also the amount of columns held by each word.
+     */
+    static final int TILE_SIZE = 64;
+
+    /**
+     * The directory of tiles, indexed by [row / TILE_SIZE][column / TILE_SIZE]. A null tile has every cell cleared.
+     */
+    private long[][][] tiles;
+
+    /**
+     * The amount of rows and columns of the matrix.
+     */
+    private int capacity;
+
+    /**
+     * Creates a matrix of the given length with every flag cleared.
+     *
+     * @param capacity the amount of rows and columns of the matrix
+     */
+    BitMatrix(int capacity) {
+        int blocks = blocksFor(capacity);
+        tiles = new long[blocks][blocks][];
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gives the amount of tiles needed to cover the given amount of rows or columns.
+     *
+     * @param cells the amount of rows or columns
+     * @return said amount of tiles
+     */
+    static int blocksFor(int cells) {
+        return (cells + TILE_SIZE - 1) / TILE_SIZE;
+    }
+
+    /**
+     * Gives the amount of rows and columns of the matrix.
+     *
+     * @return said amount
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Enlarges the matrix to the given length, keeping every flag already set. Only the directory of tiles is copied.
+     *
+     * @param newCapacity the new amount of rows and columns. Must not be lesser than the current one
+     */
+    void grow(int newCapacity) {
+        int blocks = blocksFor(newCapacity);
+        if (blocks > tiles.length) {
+            long[][][] newTiles = Arrays.copyOf(tiles, blocks);
+            for (int i = 0; i < blocks; i++)
+                newTiles[i] = i < tiles.length ? Arrays.copyOf(tiles[i], blocks) : new long[blocks][];
+            tiles = newTiles;
+        }
+        capacity = newCapacity;
+    }
+
+    /**
+     * Indicates if cell [i][j] is set.
+     *
+     * @param i the row of the cell
+     * @param j the column of the cell
+     * @return true if the cell is set
+     */
+    boolean get(int i, int j) {
+        long[] tile = tiles[i / TILE_SIZE][j / TILE_SIZE];
+        return tile != null && (tile[i % TILE_SIZE] & (1L << j)) != 0;
+    }
+
+    /**
+     * Sets cell [i][j], allocating its tile if needed.
+     *
+     * @param i the row of the cell
+     * @param j the column of the cell
+     */
+    void set(int i, int j) {
+        long[][] tileRow = tiles[i / TILE_SIZE];
+        long[] tile = tileRow[j / TILE_SIZE];
+        if (tile == null)
+            tile = tileRow[j / TILE_SIZE] = new long[TILE_SIZE];
+        tile[i % TILE_SIZE] |= 1L << j;
+    }
+
+    /**
+     * Clears cell [i][j].
+     *
+     * @param i the row of the cell
+     * @param j the column of the cell
+     */
+    void clear(int i, int j) {
+        long[] tile = tiles[i / TILE_SIZE][j / TILE_SIZE];
+        if (tile != null)
+            tile[i % TILE_SIZE] &= ~(1L << j);
+    }
+
+    /**
+     * Finds the first set cell of row 'i' whose column is greater than or equal to 'from'. Tiles that were never
+     * allocated are skipped whole.
+     *
+     * @param i    the row to be scanned
+     * @param from the first column to be checked
+     * @return the column of said cell, or -1 if there is none
+     */
+    int nextSetBit(int i, int from) {
+        long[][] tileRow = tiles[i / TILE_SIZE];
+        int r = i % TILE_SIZE;
+        int w = from / TILE_SIZE;
+        if (w >= tileRow.length)
+            return -1;
+        long word = tileRow[w] == null ? 0L : tileRow[w][r] & (-1L << from);
+        while (true) {
+            if (word != 0)
+                return w * TILE_SIZE + Long.numberOfTrailingZeros(word);
+            if (++w == tileRow.length)
+                return -1;
+            word = tileRow[w] == null ? 0L : tileRow[w][r];
+        }
+    }
+}
@@ -0,0 +1,988 @@
+package model;
+
+import exceptions.ElementAlreadyPresentException;
+import exceptions.ElementNotFoundException;
+import exceptions.WrongEdgeTypeException;
+import exceptions.WrongGraphTypeException;
+
+import java.util.*;
+
+/**
+ * An immutable snapshot of a graph stored in compressed sparse row (CSR) form. The edges that leave vertex 'i' are
+ * stored contiguously in positions [offsets[i], offsets[i + 1]) of the 'targets' and 'weights' arrays, so walking the
+ * neighbors of a vertex needs no allocation and memory grows with V + E instead of V^2.
+ * <p>
+ * Vertices are renumbered densely from 0 to V - 1 following the order of their indices in the source graph, and may be
+ * renumbered again for locality through {@link #reorder(VertexOrdering)}. Every mutating operation of {@link IGraph}
+ * throws an UnsupportedOperationException.
+ * <p>
+ * A snapshot may be built with sorted rows, in which the edges of each vertex are ordered by the id of the vertex at
+ * which they arrive. Then finding an edge is a binary search, and neighborhoods can be intersected by merging rows,
+ * which {@link #commonNeighbors(int, int)}, {@link #jaccard(int, int)} and {@link #countTriangles()} require.
+ *
+ * @param <V> the type of vertex in the graph
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+public class CompressedSparseRowGraph<V> implements IGraph<V> {
+
+    /**
+     * If the graph is directed.
+     */
+    private final boolean isDirected;
+
+    /**
+     * If the graph is weighted.
+     */
+    private final boolean isWeighted;
+
+    /**
+     * A map that pairs vertices to their dense id in this snapshot.
+     */
+    private final Map<V, Integer> ids;
+
+    /**
+     * The vertex that corresponds to each id.
+     */
+    private final Object[] labels;
+
+    /**
+     * Position in 'targets' and 'weights' where the edges of each vertex begin. Has length V + 1.
+     */
+    private final int[] offsets;
+
+    /**
+     * The id of the vertex at which each edge arrives.
+     */
+    private final int[] targets;
+
+    /**
+     * The weight of each edge. Null if the graph is unweighted.
+     */
+    private final double[] weights;
+
+    /**
+     * If the edges of each vertex are ordered by the id of the vertex at which they arrive.
+     */
+    private final boolean sorted;
+
+    /**
+     * The id that each vertex had in the snapshot this one was reordered from. Null if it was built from a graph.
+     */
+    private final int[] permutation;
+
+    /**
+     * The ratio between the lengths of two rows above which intersecting them gallops through the longer one instead
+     * of merging both.
+     */
+    private static final int GALLOP_RATIO = 8;
+
+    /**
+     * Builds a snapshot of the given graph. Later changes to 'g' are not reflected in the snapshot.
+     *
+     * @param g the graph to be copied
+     */
+    public CompressedSparseRowGraph(IGraph<V> g) {
+        this(g, false);
+    }
+
+    /**
+     * Builds a snapshot of the given graph, optionally sorting the edges of each vertex by the id of the vertex at
+     * which they arrive. Edges that arrive at the same vertex keep their relative order. Later changes to 'g' are not
+     * reflected in the snapshot.
+     *
+     * @param g      the graph to be copied
+     * @param sorted true if the rows have to be sorted
+     */
+    public CompressedSparseRowGraph(IGraph<V> g, boolean sorted) {
+        isDirected = g.isDirected();
+        isWeighted = g.isWeighted();
+
+        Map<V, Integer> sourceIndices = g.getVertices();
+        int bound = 0;
+        for (int index : sourceIndices.values())
+            bound = Math.max(bound, index + 1);
+
+        //Orders the vertices by their index in the source graph, which may contain empty slots.
+        Object[] bySourceIndex = new Object[bound];
+        for (Map.Entry<V, Integer> entry : sourceIndices.entrySet())
+            bySourceIndex[entry.getValue()] = entry.getKey();
+
+        int n = sourceIndices.size();
+        labels = new Object[n];
+        ids = new HashMap<>(n * 2);
+        int[] idBySourceIndex = new int[bound];
+        int id = 0;
+        for (int index = 0; index < bound; index++) {
+            if (bySourceIndex[index] != null) {
+                labels[id] = bySourceIndex[index];
+                ids.put(cast(bySourceIndex[index]), id);
+                idBySourceIndex[index] = id;
+                id++;
+            }
+        }
+
+        EdgeBuffer buffer = new EdgeBuffer(idBySourceIndex, isWeighted);
+        offsets = new int[n + 1];
+        id = 0;
+        for (int index = 0; index < bound; index++) {
+            if (bySourceIndex[index] != null) {
+                g.forEachNeighbor(index, buffer);
+                offsets[++id] = buffer.size;
+            }
+        }
+        targets = Arrays.copyOf(buffer.targets, buffer.size);
+        weights = isWeighted ? Arrays.copyOf(buffer.weights, buffer.size) : null;
+        this.sorted = sorted;
+        permutation = null;
+        if (sorted)
+            sortRows();
+    }
+
+    /**
+     * Builds a copy of the given snapshot in which the vertex with id order[i] gets id 'i'. The rows are sorted again
+     * if they were sorted in the source.
+     *
+     * @param source the snapshot to be copied
+     * @param order  the id in 'source' of the vertex that gets each id
+     */
+    private CompressedSparseRowGraph(CompressedSparseRowGraph<V> source, int[] order) {
+        isDirected = source.isDirected;
+        isWeighted = source.isWeighted;
+        sorted = source.sorted;
+        permutation = order;
+
+        int n = order.length;
+        int[] rank = new int[n];
+        labels = new Object[n];
+        ids = new HashMap<>(n * 2);
+        offsets = new int[n + 1];
+        for (int id = 0; id < n; id++) {
+            rank[order[id]] = id;
+            labels[id] = source.labels[order[id]];
+            ids.put(cast(labels[id]), id);
+            offsets[id + 1] = offsets[id] + source.degree(order[id]);
+        }
+        targets = new int[source.targets.length];
+        weights = isWeighted ? new double[source.targets.length] : null;
+        for (int id = 0; id < n; id++) {
+            int from = source.offsets[order[id]];
+            for (int k = 0; k < degree(id); k++) {
+                targets[offsets[id] + k] = rank[source.targets[from + k]];
+                if (isWeighted)
+                    weights[offsets[id] + k] = source.weights[from + k];
+            }
+        }
+        if (sorted)
+            sortRows();
+    }
+
+    /**
+     * Sorts the edges of every row by target, keeping the relative order of the edges that arrive at the same vertex.
+     * Each edge is packed into a long made of its target and its position, so a plain sort of the longs is stable.
+     */
+    private void sortRows() {
+        int maxDegree = 0;
+        for (int id = 0; id < labels.length; id++)
+            maxDegree = Math.max(maxDegree, degree(id));
+        long[] keys = new long[maxDegree];
+        double[] rowWeights = isWeighted ? new double[maxDegree] : null;
+        for (int id = 0; id < labels.length; id++) {
+            int start = offsets[id];
+            int degree = degree(id);
+            boolean inOrder = true;
+            for (int e = start + 1; e < start + degree && inOrder; e++)
+                inOrder = targets[e - 1] <= targets[e];
+            if (inOrder)
+                continue;
+            for (int k = 0; k < degree; k++)
+                keys[k] = ((long) targets[start + k] << 32) | k;
+            Arrays.sort(keys, 0, degree);
+            if (isWeighted)
+                System.arraycopy(weights, start, rowWeights, 0, degree);
+            for (int k = 0; k < degree; k++) {
+                targets[start + k] = (int) (keys[k] >>> 32);
+                if (isWeighted)
+                    weights[start + k] = rowWeights[(int) keys[k]];
+            }
+        }
+    }
+
+    /**
+     * Growable buffer that collects the edges reported by the source graph while the snapshot is being built,
+     * translating the indices of the source graph into ids of the snapshot.
+     */
+    private static final class EdgeBuffer implements IntDoubleConsumer {
+
+        /**
+         * The id in the snapshot of each index in the source graph.
+         */
+        private final int[] idBySourceIndex;
+
+        /**
+         * The ids of the vertices at which the collected edges arrive.
+         */
+        private int[] targets;
+
+        /**
+         * The weights of the collected edges. Null if the graph is unweighted.
+         */
+        private double[] weights;
+
+        /**
+         * The amount of collected edges.
+         */
+        private int size;
+
+        /**
+         * Creates an empty buffer.
+         *
+         * @param idBySourceIndex the id in the snapshot of each index in the source graph
+         * @param weighted        true if the weight of each edge has to be collected
+         */
+        EdgeBuffer(int[] idBySourceIndex, boolean weighted) {
+            this.idBySourceIndex = idBySourceIndex;
+            int capacity = Math.max(16, idBySourceIndex.length);
+            targets = new int[capacity];
+            weights = weighted ? new double[capacity] : null;
+        }
+
+        /**
+         * Appends the reported edge to the buffer.
+         *
+         * @param index  the index in the source graph of the vertex at which the edge arrives
+         * @param weight the weight of the edge
+         */
+        @Override
+        public void accept(int index, double weight) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                if (weights != null)
+                    weights = Arrays.copyOf(weights, size * 2);
+            }
+            targets[size] = idBySourceIndex[index];
+            if (weights != null)
+                weights[size] = weight;
+            size++;
+        }
+    }
+
+    /**
+     * Casts a stored label back to the type of vertex of this graph.
+     *
+     * @param vertex the label to be cast
+     * @return the given label as a vertex
+     */
+    @SuppressWarnings("unchecked")
+    private V cast(Object vertex) {
+        return (V) vertex;
+    }
+
+    /**
+     * Returns the id of the given vertex, throwing an exception if it does not belong to this snapshot.
+     *
+     * @param u the vertex to be searched
+     * @param message the message of the exception to be thrown
+     * @return the id of 'u'
+     * @throws ElementNotFoundException if 'u' is not in the graph
+     */
+    private int idOf(V u, String message) throws ElementNotFoundException {
+        Integer id = ids.get(u);
+        if (id == null)
+            throw new ElementNotFoundException(message);
+        return id;
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param u the new vertex to be added
+     * @return never returns normally
+     */
+    @Override
+    public boolean addVertex(V u) throws ElementAlreadyPresentException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param u a vertex within the graph
+     * @param v a vertex within the graph
+     * @return never returns normally
+     */
+    @Override
+    public boolean addEdge(V u, V v) throws WrongEdgeTypeException, ElementNotFoundException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param u a vertex within the graph
+     * @param v a vertex within the graph
+     * @param w is the weight of the edge
+     * @return never returns normally
+     */
+    @Override
+    public boolean addEdge(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param us the new vertices to be added
+     * @return never returns normally
+     */
+    @Override
+    public boolean addVertices(Collection<? extends V> us) throws ElementAlreadyPresentException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @return never returns normally
+     */
+    @Override
+    public boolean addEdges(int[] u, int[] v) throws WrongEdgeTypeException, ElementNotFoundException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @param w the weights of the edges
+     * @return never returns normally
+     */
+    @Override
+    public boolean addEdges(int[] u, int[] v, double[] w) throws WrongEdgeTypeException, ElementNotFoundException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param u the vertex to be removed
+     * @return never returns normally
+     */
+    @Override
+    public boolean removeVertex(V u) throws ElementNotFoundException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param u vertex from which the edge originates
+     * @param v vertex to which the edge arrives
+     * @return never returns normally
+     */
+    @Override
+    public boolean removeEdge(V u, V v) throws ElementNotFoundException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @return never returns normally
+     */
+    @Override
+    public boolean removeEdges(int[] u, int[] v) throws ElementNotFoundException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param u vertex from which the edge originates
+     * @param v vertex to which the edge arrives
+     * @param w the weight of the edge
+     * @return never returns normally
+     */
+    @Override
+    public boolean setWeight(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Not supported, since snapshots are immutable.
+     *
+     * @param u vertex from which the edge originates
+     * @param v vertex to which the edge arrives
+     * @param w the weight of the edge
+     * @return never returns normally
+     */
+    @Override
+    public boolean mergeEdgeMin(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException {
+        throw new UnsupportedOperationException("Compressed graphs are immutable");
+    }
+
+    /**
+     * Returns a new list with the vertices adjacent to the given one.
+     *
+     * @param u vertex whose adjacent nodes are to be listed
+     * @return list of its adjacent vertices
+     * @throws ElementNotFoundException if 'u' doesn't belong to the graph
+     */
+    @Override
+    public List<V> vertexAdjacent(V u) throws ElementNotFoundException {
+        int id = idOf(u, "Given vertex not found in graph");
+        List<V> adjacent = new ArrayList<>(degree(id));
+        for (int e = offsets[id]; e < offsets[id + 1]; e++)
+            adjacent.add(cast(labels[targets[e]]));
+        return adjacent;
+    }
+
+    /**
+     * Reports every edge that leaves the vertex with the given id, in the order in which they are stored.
+     *
+     * @param id       the id of the vertex whose edges are to be reported
+     * @param consumer the operation to perform on each neighbor
+     */
+    @Override
+    public void forEachNeighbor(int id, IntDoubleConsumer consumer) {
+        for (int e = offsets[id]; e < offsets[id + 1]; e++)
+            consumer.accept(targets[e], isWeighted ? weights[e] : Double.MAX_VALUE);
+    }
+
+    /**
+     * Indicates if there exists an edge starting from 'u' and ending in 'v'.
+     *
+     * @param u starting vertex
+     * @param v ending vertex
+     * @return true if said edge exists
+     * @throws ElementNotFoundException if either 'u' or 'v' are not in the graph
+     */
+    @Override
+    public boolean areConnected(V u, V v) throws ElementNotFoundException {
+        int x = idOf(u, "First element not found in graph");
+        int y = idOf(v, "Second element not found in graph");
+        return edgeIndex(x, y) != -1;
+    }
+
+    /**
+     * Searches the row of vertex 'x' for an edge arriving at vertex 'y'.
+     *
+     * @param x id of the starting vertex
+     * @param y id of the ending vertex
+     * @return the position of the last such edge in 'targets', or -1 if there is none
+     */
+    private int edgeIndex(int x, int y) {
+        if (sorted) {
+            int e = lowerBound(offsets[x], offsets[x + 1], y + 1) - 1;//The last edge whose target is at most 'y'.
+            return e >= offsets[x] && targets[e] == y ? e : -1;
+        }
+        for (int e = offsets[x + 1] - 1; e >= offsets[x]; e--)
+            if (targets[e] == y)
+                return e;
+        return -1;
+    }
+
+    /**
+     * Builds a new weight matrix for this graph. Unlike the rest of the snapshot, it takes O(V^2) memory.
+     *
+     * @return a matrix containing the weight of every edge, 0.0 in the diagonal and Double.MAX_VALUE elsewhere
+     */
+    @Override
+    public double[][] weightMatrix() {
+        int n = labels.length;
+        double[][] weightMatrix = new double[n][n];
+        for (int i = 0; i < n; i++)
+            Arrays.fill(weightMatrix[i], Double.MAX_VALUE);
+        if (isWeighted) {
+            for (int i = 0; i < n; i++) {
+                for (int e = offsets[i]; e < offsets[i + 1]; e++)
+                    weightMatrix[i][targets[e]] = weights[e];
+                weightMatrix[i][i] = 0.0;
+            }
+        }
+        return weightMatrix;
+    }
+
+    /**
+     * Returns the weight of the edge from the vertex with id 'i' to the vertex with id 'j' by searching the row of 'i'.
+     *
+     * @param i id of the vertex from which the edge originates
+     * @param j id of the vertex to which the edge arrives
+     * @return the weight of the edge, 0.0 if 'i' equals 'j' and Double.MAX_VALUE if they are not connected
+     */
+    @Override
+    public double weight(int i, int j) {
+        if (!isWeighted)
+            return Double.MAX_VALUE;
+        if (i == j)
+            return 0.0;
+        int e = edgeIndex(i, j);
+        return e == -1 ? Double.MAX_VALUE : weights[e];
+    }
+
+    /**
+     * Returns whether the graph is directed.
+     *
+     * @return true if and only if graph is directed
+     */
+    @Override
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    /**
+     * Returns whether the graph is weighted.
+     *
+     * @return true if and only if graph is weighted
+     */
+    @Override
+    public boolean isWeighted() {
+        return isWeighted;
+    }
+
+    /**
+     * Returns the id of vertex 'u' in this snapshot.
+     *
+     * @param u the vertex whose id will be returned
+     * @return the id of the vertex
+     * @throws ElementNotFoundException if 'u' is not in the graph
+     */
+    @Override
+    public int getIndex(V u) throws ElementNotFoundException {
+        return idOf(u, "Given vertex was not found in graph");
+    }
+
+    /**
+     * Gives the amount of vertices in the graph.
+     *
+     * @return an int with said amount.
+     */
+    @Override
+    public int getVertexSize() {
+        return labels.length;
+    }
+
+    /**
+     * Gives an unmodifiable Map that pairs vertices with their id.
+     *
+     * @return said Map
+     */
+    @Override
+    public Map<V, Integer> getVertices() {
+        return Collections.unmodifiableMap(ids);
+    }
+
+    /**
+     * Returns a view of the edges stored in this snapshot, read from its arrays as it is iterated. Each undirected
+     * edge is listed once.
+     *
+     * @return said view
+     */
+    @Override
+    public Collection<Edge> getEdgesArray() {
+        return new EdgeCollection<>(new Rows(), isDirected, isWeighted);
+    }
+
+    /**
+     * Copies the edges in this graph from the arrays of the snapshot into primitive columns. Each undirected edge is listed once.
+     *
+     * @return a new list with said edges
+     */
+    @Override
+    public EdgeList edgeList() {
+        return EdgeList.of(new Rows(), isDirected, targets.length);
+    }
+
+    /**
+     * Gives a view that pairs the starting vertex with a List of maps that represent all vertices it arrives to along
+     * with the value of its edge. If the graph is unweighted, the edges' value is set to Double.MAX_VALUE.
+     *
+     * @return a Map that represents a vertex and all edges that originate from itself
+     */
+    @Override
+    public Map<V, List<Map<V, Double>>> getEdges() {
+        return new EdgeMap<>(new Rows(), ids);
+    }
+
+    /**
+     * The rows of the snapshot as seen by the views of the edges. The cursor of an edge is its position in 'targets'.
+     */
+    private final class Rows implements AdjacencyView<V> {
+
+        @Override
+        public int rows() {
+            return labels.length;
+        }
+
+        @Override
+        public V vertex(int index) {
+            return cast(labels[index]);
+        }
+
+        @Override
+        public int next(int x, int cursor) {
+            int edge = cursor == -1 ? offsets[x] : cursor + 1;
+            return edge < offsets[x + 1] ? edge : -1;
+        }
+
+        @Override
+        public int target(int x, int cursor) {
+            return targets[cursor];
+        }
+
+        @Override
+        public double weight(int x, int cursor) {
+            return edgeWeight(cursor);
+        }
+    }
+
+    /**
+     * Returns the vertex that has the given id.
+     *
+     * @param id the id of the vertex
+     * @return said vertex
+     * @throws ElementNotFoundException if there is no vertex with said id
+     */
+    @Override
+    public V getVertex(int id) throws ElementNotFoundException {
+        if (id < 0 || id >= labels.length)
+            throw new ElementNotFoundException("No vertex was found at the given index");
+        return cast(labels[id]);
+    }
+
+    /**
+     * Gives the amount of edges stored in the snapshot. Undirected edges are counted once per direction.
+     *
+     * @return an int with said amount
+     */
+    public int getEdgeSize() {
+        return targets.length;
+    }
+
+    /**
+     * Gives the amount of edges that leave the given vertex.
+     *
+     * @param id the id of the vertex
+     * @return the out-degree of said vertex
+     */
+    public int degree(int id) {
+        return offsets[id + 1] - offsets[id];
+    }
+
+    /**
+     * Returns the position of the first edge that leaves the given vertex. Together with {@link #edgeEnd(int)}, it
+     * allows iterating over the neighbors of a vertex without allocating.
+     *
+     * @param id the id of the vertex
+     * @return the first position, inclusive
+     */
+    public int edgeStart(int id) {
+        return offsets[id];
+    }
+
+    /**
+     * Returns the position after the last edge that leaves the given vertex.
+     *
+     * @param id the id of the vertex
+     * @return the last position, exclusive
+     */
+    public int edgeEnd(int id) {
+        return offsets[id + 1];
+    }
+
+    /**
+     * Returns the id of the vertex at which the edge in the given position arrives.
+     *
+     * @param edge the position of the edge
+     * @return the id of said vertex
+     */
+    public int edgeTarget(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * Returns the weight of the edge in the given position.
+     *
+     * @param edge the position of the edge
+     * @return its weight, or Double.MAX_VALUE if the graph is unweighted
+     */
+    public double edgeWeight(int edge) {
+        return isWeighted ? weights[edge] : Double.MAX_VALUE;
+    }
+
+    /**
+     * Indicates if the edges of each vertex are ordered by the id of the vertex at which they arrive.
+     *
+     * @return true if the rows are sorted
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Builds a copy of this snapshot whose vertices are renumbered in the given order, so that traversals and
+     * algorithms over its rows or its weight matrix touch memory that is closer together. The permutation used is
+     * kept by the copy: see {@link #permutation()}.
+     *
+     * @param strategy the order in which the vertices are renumbered
+     * @return the renumbered snapshot
+     */
+    public CompressedSparseRowGraph<V> reorder(VertexOrdering strategy) {
+        int[] order;
+        switch (strategy) {
+            case BFS:
+                order = breadthFirstOrder(false);
+                break;
+            case REVERSE_CUTHILL_MCKEE:
+                order = breadthFirstOrder(true);
+                for (int i = 0, j = order.length - 1; i < j; i++, j--) {
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j] = tmp;
+                }
+                break;
+            default:
+                order = degreeOrder(true);
+        }
+        return new CompressedSparseRowGraph<>(this, order);
+    }
+
+    /**
+     * Returns, for each id, the id the same vertex had in the snapshot this one was reordered from, so that results
+     * computed over this snapshot can be mapped back: result[permutation()[i]] belongs to vertex 'i' here.
+     *
+     * @return a new array with said ids, which is the identity if this snapshot was built from a graph
+     */
+    public int[] permutation() {
+        if (permutation != null)
+            return permutation.clone();
+        int[] identity = new int[labels.length];
+        for (int id = 0; id < identity.length; id++)
+            identity[id] = id;
+        return identity;
+    }
+
+    /**
+     * Lists the vertices in the order in which breadth-first searches through the edges that leave them visit them.
+     * Each search starts from the first vertex not yet visited, in order of id, or of degree and then id if the
+     * neighbors are visited by degree.
+     *
+     * @param byDegree true to start from vertices of minimum degree and to visit the neighbors of each vertex by
+     *                 increasing degree, as Cuthill-McKee does
+     * @return the id of the vertex visited at each step
+     */
+    private int[] breadthFirstOrder(boolean byDegree) {
+        int n = labels.length;
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] starts = byDegree ? degreeOrder(false) : null;
+        long[] keys = byDegree ? new long[n] : null;
+        int head = 0;
+        int tail = 0;
+        for (int s = 0; s < n; s++) {
+            int start = byDegree ? starts[s] : s;
+            if (visited[start])
+                continue;
+            visited[start] = true;
+            order[tail++] = start;
+            while (head < tail) {
+                int x = order[head++];
+                int first = tail;
+                for (int e = offsets[x]; e < offsets[x + 1]; e++) {
+                    int y = targets[e];
+                    if (!visited[y]) {
+                        visited[y] = true;
+                        order[tail++] = y;
+                    }
+                }
+                if (byDegree && tail - first > 1) {
+                    for (int k = first; k < tail; k++)
+                        keys[k - first] = ((long) degree(order[k]) << 32) | order[k];
+                    Arrays.sort(keys, 0, tail - first);
+                    for (int k = first; k < tail; k++)
+                        order[k] = (int) keys[k - first];
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Sorts the ids of the vertices by degree, breaking ties by id. Each vertex is packed into a long made of its
+     * degree and its id, so a plain sort of the longs orders both.
+     *
+     * @param descending true to put the vertices of greatest degree first
+     * @return the sorted ids
+     */
+    private int[] degreeOrder(boolean descending) {
+        int n = labels.length;
+        long[] keys = new long[n];
+        for (int id = 0; id < n; id++) {
+            long degree = descending ? Integer.MAX_VALUE - degree(id) : degree(id);
+            keys[id] = (degree << 32) | id;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[n];
+        for (int k = 0; k < n; k++)
+            order[k] = (int) keys[k];
+        return order;
+    }
+
+    /**
+     * Gives the amount of distinct vertices at which edges of both given vertices arrive. Rows are intersected by
+     * merging them, or by galloping through the longer one when it is much longer than the other.
+     * <pre> The rows are sorted
+     *
+     * @param a the id of a vertex
+     * @param b the id of a vertex
+     * @return the amount of common neighbors
+     * @throws IllegalStateException if the rows are not sorted
+     */
+    public int commonNeighbors(int a, int b) {
+        checkSorted();
+        return countCommon(offsets[a], offsets[a + 1], offsets[b], offsets[b + 1]);
+    }
+
+    /**
+     * Gives the Jaccard similarity of the neighborhoods of the given vertices, that is, the amount of common neighbors
+     * divided by the amount of vertices adjacent to either of them.
+     * <pre> The rows are sorted
+     *
+     * @param a the id of a vertex
+     * @param b the id of a vertex
+     * @return said similarity, between 0 and 1, or 0 if neither vertex has neighbors
+     * @throws IllegalStateException if the rows are not sorted
+     */
+    public double jaccard(int a, int b) {
+        int common = commonNeighbors(a, b);
+        int union = distinctDegree(a) + distinctDegree(b) - common;
+        return union == 0 ? 0 : (double) common / union;
+    }
+
+    /**
+     * Counts the triangles of the graph, that is, the sets of three distinct vertices that are adjacent to each other.
+     * Each one is found once, from its vertex of lowest id, by intersecting the rows of two of its vertices past the id
+     * of the second one.
+     * <pre> The rows are sorted
+     *
+     * @return the amount of triangles
+     * @throws WrongGraphTypeException if the graph is directed
+     * @throws IllegalStateException   if the rows are not sorted
+     */
+    public long countTriangles() throws WrongGraphTypeException {
+        if (isDirected)
+            throw new WrongGraphTypeException("Expected undirected graph");
+        checkSorted();
+        long triangles = 0;
+        for (int u = 0; u < labels.length; u++) {
+            int uEnd = offsets[u + 1];
+            for (int e = lowerBound(offsets[u], uEnd, u + 1); e < uEnd; e++) {
+                int v = targets[e];
+                if (e > offsets[u] && targets[e - 1] == v)
+                    continue;//Parallel edge to a neighbor already visited.
+                triangles += countCommon(lowerBound(e + 1, uEnd, v + 1), uEnd,
+                        lowerBound(offsets[v], offsets[v + 1], v + 1), offsets[v + 1]);
+            }
+        }
+        return triangles;
+    }
+
+    /**
+     * Throws an exception if the rows are not sorted.
+     */
+    private void checkSorted() {
+        if (!sorted)
+            throw new IllegalStateException("The rows of this snapshot are not sorted");
+    }
+
+    /**
+     * Gives the amount of distinct vertices at which edges of the given vertex arrive.
+     *
+     * @param id the id of the vertex
+     * @return said amount
+     */
+    private int distinctDegree(int id) {
+        int count = 0;
+        for (int e = offsets[id]; e < offsets[id + 1]; e++)
+            if (e == offsets[id] || targets[e] != targets[e - 1])
+                count++;
+        return count;
+    }
+
+    /**
+     * Searches a sorted range of 'targets' for the first position whose target is not lower than the given key.
+     *
+     * @param from the first position of the range, inclusive
+     * @param to   the last position of the range, exclusive
+     * @param key  the target being searched
+     * @return said position, or 'to' if every target is lower
+     */
+    private int lowerBound(int from, int to, int key) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (targets[middle] < key)
+                from = middle + 1;
+            else
+                to = middle;
+        }
+        return from;
+    }
+
+    /**
+     * Like {@link #lowerBound(int, int, int)}, but first doubles the distance from 'from' until it passes the key, so
+     * that it takes time logarithmic in the distance moved rather than in the length of the range.
+     *
+     * @param from the first position of the range, inclusive
+     * @param to   the last position of the range, exclusive
+     * @param key  the target being searched
+     * @return the first position whose target is not lower than 'key', or 'to' if there is none
+     */
+    private int gallop(int from, int to, int key) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < to && targets[high] < key) {
+            low = high + 1;
+            high += step;
+            step *= 2;
+        }
+        return lowerBound(low, Math.min(high, to), key);
+    }
+
+    /**
+     * Counts the distinct targets present in both of the given sorted ranges of 'targets'.
+     *
+     * @param i    the first position of one range, inclusive
+     * @param iEnd the last position of said range, exclusive
+     * @param j    the first position of the other range, inclusive
+     * @param jEnd the last position of said range, exclusive
+     * @return said amount
+     */
+    private int countCommon(int i, int iEnd, int j, int jEnd) {
+        if (iEnd - i > jEnd - j)
+            return countCommon(j, jEnd, i, iEnd);
+        boolean gallop = jEnd - j > GALLOP_RATIO * (iEnd - i);
+        int count = 0;
+        while (i < iEnd && j < jEnd) {
+            int a = targets[i];
+            int b = targets[j];
+            if (a < b)
+                i++;
+            else if (a > b)
+                j = gallop ? gallop(j, jEnd, a) : j + 1;
+            else {
+                count++;
+                while (i < iEnd && targets[i] == a)
+                    i++;
+                while (j < jEnd && targets[j] == a)
+                    j++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,177 @@
+package model;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A read-only view of the edges of a graph, computed from its adjacency storage while being iterated. Nothing is
+ * copied: each Edge is created as it is reached and reflects the graph at that moment. Each undirected edge is listed
+ * once, from the vertex with the lower index.
+ * <p>
+ * Its Spliterator splits the range of rows in halves, so the edges can be processed by a parallel stream.
+ *
+ * @param <V> the type of the vertices
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+@SuppressWarnings("rawtypes")
+final class EdgeCollection<V> extends AbstractCollection<Edge> {
+
+    /**
+     * The storage of the graph whose edges are listed.
+     */
+    private final AdjacencyView<V> view;
+
+    /**
+     * Indicates whether the graph is directed.
+     */
+    private final boolean isDirected;
+
+    /**
+     * Indicates whether the graph is weighted.
+     */
+    private final boolean isWeighted;
+
+    /**
+     * Creates a view of the edges held by the given storage.
+     *
+     * @param view       the storage of the graph
+     * @param isDirected true if the graph is directed
+     * @param isWeighted true if the graph is weighted
+     */
+    EdgeCollection(AdjacencyView<V> view, boolean isDirected, boolean isWeighted) {
+        this.view = view;
+        this.isDirected = isDirected;
+        this.isWeighted = isWeighted;
+    }
+
+    /**
+     * Returns an iterator that walks the rows of the graph in order of index.
+     *
+     * @return said iterator
+     */
+    @Override
+    public Iterator<Edge> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a Spliterator over every row of the graph.
+     *
+     * @return said Spliterator
+     */
+    @Override
+    public Spliterator<Edge> spliterator() {
+        return new EdgeSpliterator(0, -1, view.rows());
+    }
+
+    /**
+     * Counts the edges by walking every row, without creating any Edge.
+     *
+     * @return the amount of edges in the graph
+     */
+    @Override
+    public int size() {
+        int count = 0;
+        for (int x = 0; x < view.rows(); x++)
+            if (view.vertex(x) != null)
+                for (int cursor = view.next(x, -1); cursor != -1; cursor = view.next(x, cursor))
+                    if (isDirected || x <= view.target(x, cursor))
+                        count++;
+        return count;
+    }
+
+    /**
+     * Indicates if the graph has no edges, stopping at the first one found.
+     *
+     * @return true if there are no edges
+     */
+    @Override
+    public boolean isEmpty() {
+        return !spliterator().tryAdvance(edge -> {
+        });
+    }
+
+    /**
+     * Walks the rows in [row, end), starting after the given cursor in the first one.
+     */
+    private final class EdgeSpliterator implements Spliterator<Edge> {
+
+        /**
+         * The row being walked.
+         */
+        private int row;
+
+        /**
+         * The cursor of the last edge reported from 'row', or -1 if none has been.
+         */
+        private int cursor;
+
+        /**
+         * The row at which this Spliterator stops, exclusive.
+         */
+        private final int end;
+
+        EdgeSpliterator(int row, int cursor, int end) {
+            this.row = row;
+            this.cursor = cursor;
+            this.end = end;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super Edge> action) {
+            for (; row < end; row++, cursor = -1) {
+                V u = view.vertex(row);
+                if (u == null)
+                    continue;
+                for (cursor = view.next(row, cursor); cursor != -1; cursor = view.next(row, cursor)) {
+                    int y = view.target(row, cursor);
+                    if (isDirected || row <= y) {
+                        if (isWeighted)
+                            action.accept(new Edge<>(u, view.vertex(y), view.weight(row, cursor)));
+                        else
+                            action.accept(new Edge<>(u, view.vertex(y)));
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Hands the first half of the remaining rows to a new Spliterator, so that the encounter order is kept. The
+         * row being walked always stays in the prefix.
+         *
+         * @return said Spliterator, or null if there are too few rows to split
+         */
+        @Override
+        public Spliterator<Edge> trySplit() {
+            int mid = (row + 1 + end) >>> 1;
+            if (mid <= row + 1)
+                return null;
+            Spliterator<Edge> prefix = new EdgeSpliterator(row, cursor, mid);
+            row = mid;
+            cursor = -1;
+            return prefix;
+        }
+
+        /**
+         * Estimates the remaining work by the amount of rows left, since the amount of edges is not known.
+         *
+         * @return said amount
+         */
+        @Override
+        public long estimateSize() {
+            return end - row;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
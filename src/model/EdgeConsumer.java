@@ -0,0 +1,21 @@
+package model;
+
+/**
+ * Represents an operation that accepts an edge as the indices of its vertices along with its weight. Used to walk an
+ * {@link EdgeList} without creating an object per edge.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+@FunctionalInterface
+public interface EdgeConsumer {
+
+    /**
+     * Performs this operation on the given edge.
+     *
+     * @param u      the index of the vertex from which the edge originates
+     * @param v      the index of the vertex to which the edge arrives
+     * @param weight the weight of the edge
+     */
+    void accept(int u, int v, double weight);
+}
@@ -0,0 +1,291 @@
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A growable list of edges stored as three parallel primitive columns: the index of the vertex each edge leaves, the
+ * index of the vertex it arrives to and its weight. Unlike a list of {@link Edge}, it keeps no object per edge, so
+ * millions of edges take a few flat arrays that can be walked, sorted and sliced without boxing.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+public final class EdgeList {
+
+    /**
+     * The length of the columns of a new list.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The amount of edges under which a range is sorted by a single thread.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    /**
+     * The amount of edges under which a range is sorted by insertion instead of merging.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * The index of the vertex from which each edge originates.
+     */
+    private int[] src;
+
+    /**
+     * The index of the vertex to which each edge arrives.
+     */
+    private int[] dst;
+
+    /**
+     * The weight of each edge.
+     */
+    private double[] w;
+
+    /**
+     * The amount of edges in the list.
+     */
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public EdgeList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for the given amount of edges.
+     *
+     * @param capacity the amount of edges the list is expected to hold
+     */
+    public EdgeList(int capacity) {
+        capacity = Math.max(capacity, 1);
+        src = new int[capacity];
+        dst = new int[capacity];
+        w = new double[capacity];
+    }
+
+    /**
+     * Lists the edges held by the rows of a graph, in order of the index of the vertex they leave. Each undirected
+     * edge is listed once, from the vertex with the lower index.
+     *
+     * @param view       the storage of the graph
+     * @param isDirected true if the graph is directed
+     * @param capacity   the amount of edges the list is expected to hold
+     * @param <V>        the type of the vertices
+     * @return a new list with said edges
+     */
+    static <V> EdgeList of(AdjacencyView<V> view, boolean isDirected, int capacity) {
+        EdgeList edges = new EdgeList(capacity);
+        for (int x = 0; x < view.rows(); x++) {
+            if (view.vertex(x) == null)
+                continue;
+            for (int cursor = view.next(x, -1); cursor != -1; cursor = view.next(x, cursor)) {
+                int y = view.target(x, cursor);
+                if (isDirected || x <= y)
+                    edges.add(x, y, view.weight(x, cursor));
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Adds an edge at the end of the list.
+     *
+     * @param u      the index of the vertex from which the edge originates
+     * @param v      the index of the vertex to which the edge arrives
+     * @param weight the weight of the edge
+     */
+    public void add(int u, int v, double weight) {
+        if (size == src.length) {
+            int capacity = size * 2;
+            src = Arrays.copyOf(src, capacity);
+            dst = Arrays.copyOf(dst, capacity);
+            w = Arrays.copyOf(w, capacity);
+        }
+        src[size] = u;
+        dst[size] = v;
+        w[size] = weight;
+        size++;
+    }
+
+    /**
+     * Gives the amount of edges in the list.
+     *
+     * @return said amount
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the vertex from which the edge in the given position originates.
+     * <pre> 0 &lt;= i &lt; size()
+     *
+     * @param i the position of the edge
+     * @return said index
+     */
+    public int src(int i) {
+        return src[i];
+    }
+
+    /**
+     * Returns the index of the vertex to which the edge in the given position arrives.
+     * <pre> 0 &lt;= i &lt; size()
+     *
+     * @param i the position of the edge
+     * @return said index
+     */
+    public int dst(int i) {
+        return dst[i];
+    }
+
+    /**
+     * Returns the weight of the edge in the given position.
+     * <pre> 0 &lt;= i &lt; size()
+     *
+     * @param i the position of the edge
+     * @return said weight
+     */
+    public double weight(int i) {
+        return w[i];
+    }
+
+    /**
+     * Performs the given operation on every edge, in order of position.
+     *
+     * @param consumer the operation
+     */
+    public void forEach(EdgeConsumer consumer) {
+        for (int i = 0; i < size; i++)
+            consumer.accept(src[i], dst[i], w[i]);
+    }
+
+    /**
+     * Returns a new list with the edges in positions [from, to) of this one.
+     *
+     * @param from the position of the first edge, inclusive
+     * @param to   the position of the last edge, exclusive
+     * @return said list
+     * @throws IndexOutOfBoundsException if the range is not within the list
+     */
+    public EdgeList slice(int from, int to) {
+        if (from < 0 || to > size || from > to)
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") is not within the list");
+        EdgeList slice = new EdgeList(to - from);
+        System.arraycopy(src, from, slice.src, 0, to - from);
+        System.arraycopy(dst, from, slice.dst, 0, to - from);
+        System.arraycopy(w, from, slice.w, 0, to - from);
+        slice.size = to - from;
+        return slice;
+    }
+
+    /**
+     * Sorts the edges by weight, in place. The sort is stable, so edges of equal weight keep their relative order.
+     * Long lists are sorted by the common ForkJoinPool, each half of a range in its own task.
+     */
+    public void sortByWeight() {
+        Sort sort = new Sort(0, size, new int[size], new int[size], new double[size]);
+        if (size > PARALLEL_SORT_THRESHOLD)
+            ForkJoinPool.commonPool().invoke(sort);
+        else
+            sort.sequential(0, size);
+    }
+
+    /**
+     * A merge sort of a range of the columns, which share a buffer of the same length as the list.
+     */
+    private final class Sort extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The range sorted by this task: [from, to).
+         */
+        private final int from;
+        private final int to;
+
+        /**
+         * Where each column is copied before two ranges are merged back into it.
+         */
+        private final int[] bufferSrc;
+        private final int[] bufferDst;
+        private final double[] bufferW;
+
+        Sort(int from, int to, int[] bufferSrc, int[] bufferDst, double[] bufferW) {
+            this.from = from;
+            this.to = to;
+            this.bufferSrc = bufferSrc;
+            this.bufferDst = bufferDst;
+            this.bufferW = bufferW;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_SORT_THRESHOLD) {
+                sequential(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Sort(from, mid, bufferSrc, bufferDst, bufferW),
+                    new Sort(mid, to, bufferSrc, bufferDst, bufferW));
+            merge(from, mid, to);
+        }
+
+        /**
+         * Sorts the edges in [lo, hi) in the current thread.
+         *
+         * @param lo the first position, inclusive
+         * @param hi the last position, exclusive
+         */
+        void sequential(int lo, int hi) {
+            if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+                for (int i = lo + 1; i < hi; i++) {
+                    int u = src[i];
+                    int v = dst[i];
+                    double weight = w[i];
+                    int j = i - 1;
+                    for (; j >= lo && Double.compare(w[j], weight) > 0; j--) {
+                        src[j + 1] = src[j];
+                        dst[j + 1] = dst[j];
+                        w[j + 1] = w[j];
+                    }
+                    src[j + 1] = u;
+                    dst[j + 1] = v;
+                    w[j + 1] = weight;
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            sequential(lo, mid);
+            sequential(mid, hi);
+            merge(lo, mid, hi);
+        }
+
+        /**
+         * Merges the sorted ranges [lo, mid) and [mid, hi) into [lo, hi), taking from the first one on ties.
+         *
+         * @param lo  the first position of the first range
+         * @param mid the first position of the second range
+         * @param hi  the last position of the second range, exclusive
+         */
+        private void merge(int lo, int mid, int hi) {
+            if (Double.compare(w[mid - 1], w[mid]) <= 0)
+                return;//Already in order.
+            System.arraycopy(src, lo, bufferSrc, lo, hi - lo);
+            System.arraycopy(dst, lo, bufferDst, lo, hi - lo);
+            System.arraycopy(w, lo, bufferW, lo, hi - lo);
+            int i = lo;
+            int j = mid;
+            for (int k = lo; k < hi; k++) {
+                int next = j >= hi || (i < mid && Double.compare(bufferW[i], bufferW[j]) <= 0) ? i++ : j++;
+                src[k] = bufferSrc[next];
+                dst[k] = bufferDst[next];
+                w[k] = bufferW[next];
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package model;
+
+import java.util.*;
+
+/**
+ * A read-only view that pairs each vertex of a graph with the edges that leave it, computed from the graph's adjacency
+ * storage while being read. Each edge is a Map from the vertex it arrives to to its weight, which is Double.MAX_VALUE
+ * if the graph is unweighted. Nothing is copied, so the view always reflects the current edges of the graph.
+ * <p>
+ * The list of a vertex is walked in constant time per edge, but reaching the i-th edge with get(i) walks the row up to
+ * it.
+ *
+ * @param <V> the type of the vertices
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+final class EdgeMap<V> extends AbstractMap<V, List<Map<V, Double>>> {
+
+    /**
+     * The storage of the graph whose edges are listed.
+     */
+    private final AdjacencyView<V> view;
+
+    /**
+     * The index of each vertex of the graph.
+     */
+    private final Map<V, Integer> indices;
+
+    /**
+     * Creates a view of the edges held by the given storage.
+     *
+     * @param view    the storage of the graph
+     * @param indices the Map that pairs each vertex of the graph with its index
+     */
+    EdgeMap(AdjacencyView<V> view, Map<V, Integer> indices) {
+        this.view = view;
+        this.indices = indices;
+    }
+
+    @Override
+    public Set<Entry<V, List<Map<V, Double>>>> entrySet() {
+        return new AbstractSet<Entry<V, List<Map<V, Double>>>>() {
+            @Override
+            public Iterator<Entry<V, List<Map<V, Double>>>> iterator() {
+                Iterator<Entry<V, Integer>> vertices = indices.entrySet().iterator();
+                return new Iterator<Entry<V, List<Map<V, Double>>>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return vertices.hasNext();
+                    }
+
+                    @Override
+                    public Entry<V, List<Map<V, Double>>> next() {
+                        Entry<V, Integer> vertex = vertices.next();
+                        return new SimpleImmutableEntry<>(vertex.getKey(), new Row(vertex.getValue()));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return indices.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the edges that leave the given vertex, found through its index instead of a search.
+     *
+     * @param key the vertex
+     * @return a view of its edges, or null if it is not in the graph
+     */
+    @Override
+    public List<Map<V, Double>> get(Object key) {
+        Integer x = indices.get(key);
+        return x == null ? null : new Row(x);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indices.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return indices.size();
+    }
+
+    /**
+     * The edges that leave a single vertex.
+     */
+    private final class Row extends AbstractList<Map<V, Double>> {
+
+        /**
+         * The index of the vertex.
+         */
+        private final int x;
+
+        Row(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public Map<V, Double> get(int i) {
+            if (i >= 0) {
+                int cursor = view.next(x, -1);
+                for (int k = 0; k < i && cursor != -1; k++)
+                    cursor = view.next(x, cursor);
+                if (cursor != -1)
+                    return edgeAt(cursor);
+            }
+            throw new IndexOutOfBoundsException("The vertex has no edge at position " + i);
+        }
+
+        @Override
+        public int size() {
+            int count = 0;
+            for (int cursor = view.next(x, -1); cursor != -1; cursor = view.next(x, cursor))
+                count++;
+            return count;
+        }
+
+        @Override
+        public Iterator<Map<V, Double>> iterator() {
+            return new Iterator<Map<V, Double>>() {
+                private int cursor = view.next(x, -1);
+
+                @Override
+                public boolean hasNext() {
+                    return cursor != -1;
+                }
+
+                @Override
+                public Map<V, Double> next() {
+                    if (cursor == -1)
+                        throw new NoSuchElementException();
+                    Map<V, Double> edge = edgeAt(cursor);
+                    cursor = view.next(x, cursor);
+                    return edge;
+                }
+            };
+        }
+
+        /**
+         * Builds the Map that represents the edge under the given cursor.
+         *
+         * @param cursor the cursor of the edge
+         * @return a Map from the vertex it arrives to to its weight
+         */
+        private Map<V, Double> edgeAt(int cursor) {
+            return Collections.singletonMap(view.vertex(view.target(x, cursor)), view.weight(x, cursor));
+        }
+    }
+}
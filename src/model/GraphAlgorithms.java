@@ -1,10 +1,11 @@
 package model;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
-import collections.CQueue;
-import collections.ICollection;
-import collections.Stack;
+import collections.BucketQueue;
+import collections.IndexedMinHeap;
 import exceptions.ElementNotFoundException;
 import exceptions.WrongEdgeTypeException;
 import exceptions.WrongGraphTypeException;
@@ -17,6 +18,12 @@ import exceptions.WrongGraphTypeException;
  */
 public class GraphAlgorithms {
 
+    /**
+     * The length of the side of the tiles in which {@link #floydWarshall(IGraph)} relaxes the distance matrix. A tile
+     * of doubles takes 32 KB, which fits in the first level cache of most processors.
+     */
+    private static final int FLOYD_WARSHALL_BLOCK = 64;
+
     /**
      * Performs a breadth-first search traversal of this graph.
      *
@@ -27,7 +34,7 @@ public class GraphAlgorithms {
      * @throws ElementNotFoundException if 'u' does not belong to the graph
      */
     public <V> List<V> bfs(IGraph<V> g, V u) throws ElementNotFoundException {
-        return traversal(g, u, new CQueue<>());
+        return traversal(g, u, false);
     }
 
     /**
@@ -40,48 +47,87 @@ public class GraphAlgorithms {
      * @throws ElementNotFoundException if 'u' does not belong to the graph
      */
     public <V> List<V> dfs(IGraph<V> g, V u) throws ElementNotFoundException {
-        return traversal(g, u, new Stack<>());
+        return traversal(g, u, true);
     }
 
     /**
-     * This method will traverse the graph using the given -appropriate- data structure.
+     * This method will traverse the graph keeping the pending vertices either in a stack, for a DFS, or in a queue,
+     * for a BFS. Vertices are handled by their index, so no list of adjacent vertices is built along the way.
      *
-     * @param <V> type that represent a vertex within the graph
-     * @param g   graph to traverse
-     * @param u   vertex from which to begin traversing
-     * @param ds  the data structure to be used in the traversal. Either a Stack for a DFS or a CQueue for BFS
-     * @return a list whose order follows that of the given data structure
+     * @param <V>        type that represent a vertex within the graph
+     * @param g          graph to traverse
+     * @param u          vertex from which to begin traversing
+     * @param depthFirst true to use a stack (DFS) and false to use a queue (BFS)
+     * @return a list whose order follows that of the chosen data structure
      * @throws ElementNotFoundException if 'u' does not belong to the graph
      */
-    private static <V> List<V> traversal(IGraph<V> g, V u, ICollection<V> ds) throws ElementNotFoundException {
-        if (g.getVertices().get(u) == null)
+    private static <V> List<V> traversal(IGraph<V> g, V u, boolean depthFirst) throws ElementNotFoundException {
+        Integer indexOfU = g.getVertices().get(u);
+        if (indexOfU == null)
             throw new ElementNotFoundException("Parameter not found in graph");
 
         List<V> trav = new ArrayList<>();
         //Invariant: Each algorithm adds the given element first.
-
-        V placeholder = u;
-        ds.add(placeholder);
+        IndexBuffer pending = new IndexBuffer(g.getVertexSize());
+        pending.accept(indexOfU, 0.0);
 
         boolean[] visited = new boolean[g.getVertexSize()];
 
-        //Invariant: While the traversal occurs, the given DS to be used will have, at least, one element.
-        while (!ds.isEmpty()) {
-            //Invariant: Element added is always removed from the DS
-            placeholder = ds.poll();
-            int indexU = g.getVertices().get(placeholder);
+        //Invariant: While the traversal occurs, the buffer will have, at least, one element.
+        while (!pending.isEmpty()) {
+            //Invariant: Element added is always removed from the buffer
+            int index = depthFirst ? pending.pop() : pending.poll();
 
-            if (!visited[indexU]) {
-                trav.add(placeholder);
-                visited[indexU] = true;
+            if (!visited[index]) {
+                trav.add(g.getVertex(index));
+                visited[index] = true;
 
-                List<V> adjacent = g.vertexAdjacent(placeholder);
-                ds.addAll(adjacent);
+                g.forEachNeighbor(index, pending);
             }
         }
         return trav;
     }
 
+    /**
+     * Growable buffer of vertex indices used by the traversals. Elements are appended at the end and removed either
+     * from the end, as in a stack, or from the beginning, as in a queue.
+     */
+    private static final class IndexBuffer implements IntDoubleConsumer {
+        int[] indices;
+        int head;
+        int tail;
+
+        IndexBuffer(int capacity) {
+            indices = new int[Math.max(16, capacity)];
+        }
+
+        @Override
+        public void accept(int index, double weight) {
+            if (tail == indices.length) {
+                if (head >= indices.length / 2) {//Reuses the space freed at the beginning by the queue.
+                    System.arraycopy(indices, head, indices, 0, tail - head);
+                    tail -= head;
+                    head = 0;
+                }
+                if (tail == indices.length)
+                    indices = Arrays.copyOf(indices, indices.length * 2);
+            }
+            indices[tail++] = index;
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        int pop() {
+            return indices[--tail];
+        }
+
+        int poll() {
+            return indices[head++];
+        }
+    }
+
     /**
      * An algorithm based on Dijkstra's approach to finding the shortest path from a given vertex to all vertices in
      * the graph.
@@ -90,81 +136,200 @@ public class GraphAlgorithms {
      * @param g   graph to traverse
      * @param s   vertex from which to begin traversing
      * @return a matrix of two columns which are both the distance from the origin to 'i' (cell [i][0]) and the
-     * parent of 'i' through which the shortest path is achieved (cell [i][1])
+     * parent of 'i' through which the shortest path is achieved (cell [i][1]). Vertices that cannot be reached have
+     * distance Double.MAX_VALUE and 's' as their parent
      * @throws ElementNotFoundException if 's' does not belong to the graph
      * @throws WrongEdgeTypeException   if a negative edge is found
      */
     public static <V> double[][] dijkstra(IGraph<V> g, V s) throws ElementNotFoundException, WrongEdgeTypeException {
-        double[][] w = g.weightMatrix();
-        int logicalSize = g.getVertexSize();
-        double[][] shortestPath = new double[logicalSize][2];
-        int indexOfS = g.getIndex(s);
-
-        //----------------------------Comienzo segun Cormen----------------------------//
-        initializeSingleSource(indexOfS, shortestPath, w);
-        Queue<Double[]> q = new PriorityQueue<>(logicalSize, new Comparator<Double[]>() {
-            @Override
-            public int compare(Double[] weight1, Double[] weight2) {
-                return weight1[1].compareTo(weight2[1]);
-            }
-        });
-        for (int i = 0; i < logicalSize; i++) {
-            if (indexOfS != i)
-                q.add(new Double[]{(double) i, w[indexOfS][i]});
+        ShortestPaths paths = shortestPaths(g, s);
+        double[][] shortestPath = new double[g.getVertexSize()][2];
+        for (int i = 0; i < shortestPath.length; i++) {
+            shortestPath[i][0] = paths.distance(i);
+            shortestPath[i][1] = paths.parent(i) != -1 ? paths.parent(i) : paths.getSource();
         }
+        return shortestPath;
+    }
 
+    /**
+     * Dijkstra's algorithm over the neighbors of each vertex, as reported by the graph, with the tentative distances
+     * kept in an indexed 4-ary heap whose keys are lowered in place. Takes O((V + E) log V) time and O(V) extra
+     * memory, without building the weight matrix. Edges of weight Double.MAX_VALUE, such as those of unweighted
+     * graphs, are not followed.
+     *
+     * @param <V> type that represents a vertex within the graph
+     * @param g   graph to traverse
+     * @param s   vertex from which to begin traversing
+     * @return the distance from 's' to each vertex and the parent of each vertex in its shortest path
+     * @throws ElementNotFoundException if 's' does not belong to the graph
+     * @throws WrongEdgeTypeException   if a negative edge leaves a vertex that can be reached
+     */
+    public static <V> ShortestPaths shortestPaths(IGraph<V> g, V s) throws ElementNotFoundException, WrongEdgeTypeException {
+        int indexOfS = g.getIndex(s);
+        ShortestPaths paths = new ShortestPaths(indexOfS, g.getVertexSize());
+        IndexedMinHeap q = new IndexedMinHeap(g.getVertexSize());
+        Relaxation relaxation = new Relaxation(paths.getDistances(), paths.getParents(), q);
+        q.offer(indexOfS, 0.0);
         while (!q.isEmpty()) {
-            Double[] u = q.poll();//extract-Min
-            if (u[1] < 0)
+            relaxation.u = q.poll();//extract-Min
+            g.forEachNeighbor(relaxation.u, relaxation);
+            if (relaxation.negative)
                 throw new WrongEdgeTypeException("Graph contains a negative edge");
-            int indexOfU = u[0].intValue();
-            for (int v = 0; v < logicalSize; v++)
-                if (w[indexOfU][v] < Double.MAX_VALUE)//u shares and edge with v
-                    relax(shortestPath, q, u, v, w);
         }
-        return shortestPath;
+        return paths;
     }
 
     /**
-     * Auxiliary method of Dijkstra's which checks for illegal, negative edges and sets the default values of
-     * the matrix returned by Dijkstra.
-     *
-     * @param indexOfS     index used by the graph of the source node
-     * @param shortestPath matrix which is to be returned by Dijkstra
-     * @param w            weight matrix of the graph
-     * @throws WrongEdgeTypeException if a negative edge is found
+     * Relaxes every edge that leaves vertex 'u' as the graph reports it, lowering the key of each vertex whose
+     * distance improves.
      */
-    private static void initializeSingleSource(int indexOfS, double[][] shortestPath, double[][] w) throws WrongEdgeTypeException {
-        for (int i = 0; i < shortestPath.length; i++) {
-            if (w[indexOfS][i] < 0.0)
-                throw new WrongEdgeTypeException("Graph contains a negative edge");
-            shortestPath[i][0] = w[indexOfS][i];
-            shortestPath[i][1] = indexOfS;
+    private static final class Relaxation implements IntDoubleConsumer {
+
+        private final double[] dist;
+        private final int[] parent;
+        private final IndexedMinHeap q;
+
+        /**
+         * The vertex whose edges are being relaxed.
+         */
+        int u;
+
+        /**
+         * If a negative edge has been found.
+         */
+        boolean negative;
+
+        Relaxation(double[] dist, int[] parent, IndexedMinHeap q) {
+            this.dist = dist;
+            this.parent = parent;
+            this.q = q;
         }
-        shortestPath[indexOfS][0] = 0.0;//Distance from s to s.
-        shortestPath[indexOfS][1] = indexOfS;//Predecessor of s.
+
+        @Override
+        public void accept(int v, double weight) {
+            if (weight == Double.MAX_VALUE)
+                return;
+            if (weight < 0) {
+                negative = true;
+                return;
+            }
+            double svDistance = dist[u] + weight;
+            if (svDistance < dist[v]) {//Distance from s to u + distance from u to v < distance from s to v.
+                dist[v] = svDistance;
+                parent[v] = u;
+                q.offer(v, svDistance);
+            }
+        }
+    }
+
+    /**
+     * Dial's algorithm for graphs whose weights are small non-negative integers. The heaviest weight is found by
+     * looking at every edge first; see {@link #dial(IGraph, Object, int)}.
+     *
+     * @param <V> type that represents a vertex within the graph
+     * @param g   graph to traverse
+     * @param s   vertex from which to begin traversing
+     * @return the distance from 's' to each vertex and the parent of each vertex in its shortest path
+     * @throws ElementNotFoundException if 's' does not belong to the graph
+     * @throws WrongEdgeTypeException   if the weight of an edge is not an integer, or is negative and the edge leaves
+     *                                  a vertex that can be reached
+     */
+    public static <V> ShortestPaths dial(IGraph<V> g, V s) throws ElementNotFoundException, WrongEdgeTypeException {
+        if (!g.isWeighted())
+            return dial(g, s, 1);
+        double[] max = {0};
+        for (int i = 0; i < g.getVertexSize(); i++)
+            g.forEachNeighbor(i, (v, weight) -> {
+                if (weight != Double.MAX_VALUE && !(weight <= max[0]))
+                    max[0] = weight;//A NaN weight is kept too, so that it is rejected below.
+            });
+        if (!(max[0] == Math.rint(max[0]) && max[0] < Integer.MAX_VALUE))
+            throw new WrongEdgeTypeException("Graph contains an edge whose weight is not a small integer");
+        return dial(g, s, (int) max[0]);
     }
 
     /**
-     * Auxiliary method of Dijkstra's which relaxes all edges from vertex 'u'.
+     * Dial's algorithm: Dijkstra's algorithm with the tentative distances kept in a circular queue of maxWeight + 1
+     * buckets instead of a heap. Takes O(E + V * maxWeight) time in the worst case, and about O(V + E) when the
+     * weights are as small as word lengths or hop counts. Each edge of an unweighted graph counts as 1, so there it
+     * finds the same distances as a breadth-first search; edges of weight Double.MAX_VALUE in a weighted graph are not
+     * followed.
      *
-     * @param shortestPath the temporary solution to Dijkstra. May be modified by this method
-     * @param q            priority queue of edges sorted by their increasing value
-     * @param u            first element of the given priority queue which contains both its index in the graph and the distance
-     *                     to it from the source node
-     * @param indexOfV     index of the vertex whose distance is to be compared
-     * @param w            weight matrix of the graph
+     * @param <V>       type that represents a vertex within the graph
+     * @param g         graph to traverse
+     * @param s         vertex from which to begin traversing
+     * @param maxWeight the heaviest weight of an edge in the graph
+     * @return the distance from 's' to each vertex and the parent of each vertex in its shortest path
+     * @throws ElementNotFoundException if 's' does not belong to the graph
+     * @throws WrongEdgeTypeException   if an edge that leaves a vertex that can be reached does not have an integer
+     *                                  weight between 0 and maxWeight
      */
-    private static void relax(double[][] shortestPath, Queue<Double[]> q, Double[] u, int indexOfV, double[][] w) {//Pre: s and index exist in the graph.
-        int indexOfU = u[0].intValue();
-        double suDistance = shortestPath[indexOfU][0];
-        double uvDistance = w[indexOfU][indexOfV];
-        double svDistance = shortestPath[indexOfV][0];
-        if (suDistance < Double.MAX_VALUE && uvDistance < Double.MAX_VALUE) {
-            if (suDistance + uvDistance < svDistance) {//Distance from s to index + distance from index to v < distance from s to v.
-                shortestPath[indexOfV][0] = suDistance + uvDistance;
-                shortestPath[indexOfV][1] = indexOfU;
-                q.add(new Double[]{(double) indexOfV, shortestPath[indexOfV][0]});
+    public static <V> ShortestPaths dial(IGraph<V> g, V s, int maxWeight) throws ElementNotFoundException, WrongEdgeTypeException {
+        int indexOfS = g.getIndex(s);
+        ShortestPaths paths = new ShortestPaths(indexOfS, g.getVertexSize());
+        BucketQueue q = new BucketQueue(g.getVertexSize(), maxWeight);
+        BucketRelaxation relaxation = new BucketRelaxation(paths.getDistances(), paths.getParents(), q, maxWeight,
+                !g.isWeighted());
+        q.offer(indexOfS, 0);
+        while (!q.isEmpty()) {
+            relaxation.u = q.poll();//extract-Min
+            g.forEachNeighbor(relaxation.u, relaxation);
+            if (relaxation.invalid)
+                throw new WrongEdgeTypeException("Graph contains an edge whose weight is not an integer between 0 and "
+                        + maxWeight);
+        }
+        return paths;
+    }
+
+    /**
+     * Relaxes every edge that leaves vertex 'u' as the graph reports it, moving each vertex whose distance improves
+     * to the bucket of its new distance.
+     */
+    private static final class BucketRelaxation implements IntDoubleConsumer {
+
+        private final double[] dist;
+        private final int[] parent;
+        private final BucketQueue q;
+        private final int maxWeight;
+
+        /**
+         * If every edge counts as 1, since the graph is unweighted.
+         */
+        private final boolean unit;
+
+        /**
+         * The vertex whose edges are being relaxed.
+         */
+        int u;
+
+        /**
+         * If an edge whose weight does not fit in the buckets has been found.
+         */
+        boolean invalid;
+
+        BucketRelaxation(double[] dist, int[] parent, BucketQueue q, int maxWeight, boolean unit) {
+            this.dist = dist;
+            this.parent = parent;
+            this.q = q;
+            this.maxWeight = maxWeight;
+            this.unit = unit;
+        }
+
+        @Override
+        public void accept(int v, double weight) {
+            if (unit)
+                weight = 1;
+            else if (weight == Double.MAX_VALUE)
+                return;
+            if (!(weight >= 0 && weight <= maxWeight && weight == Math.rint(weight))) {
+                invalid = true;
+                return;
+            }
+            double svDistance = dist[u] + weight;
+            if (svDistance < dist[v]) {//Distance from s to u + distance from u to v < distance from s to v.
+                dist[v] = svDistance;
+                parent[v] = u;
+                q.offer(v, (long) svDistance);
             }
         }
     }
@@ -173,6 +338,12 @@ public class GraphAlgorithms {
      * An algorithm based on the approach by Floyd and Warshall for finding the minimum distance from all nodes in a
      * graph to every other node. If reaching vertex 'j' from vertex 'i' is not possible, position [i][j] returns
      * Double.MAX_VALUE.
+     * <p>
+     * The distances are relaxed in place over the rows of the matrix given by {@link IGraph#weightMatrix()}, one tile
+     * of 64 by 64 cells at a time, so that the rows being read stay in the cache. That matrix is the one returned, so
+     * the algorithm holds a single n by n matrix of doubles besides the graph. When every edge has the same
+     * non-negative integer weight, the distances are found by a breadth-first search from each vertex instead, in
+     * O(V * E) time rather than O(V^3), and give the same matrix.
      *
      * @param g   the graph to be queried
      * @param <V> the type of nodes in the graph
@@ -181,30 +352,283 @@ public class GraphAlgorithms {
      * @throws WrongGraphTypeException if the given graph is unweighted
      */
     public static <V> double[][] floydWarshall(IGraph<V> g) throws WrongGraphTypeException {
+        return floydWarshall(g, null);
+    }
+
+    /**
+     * Floyd-Warshall's algorithm with the tiles of each round relaxed by the threads of a new pool of the given
+     * parallelism, which is shut down before returning. See {@link #floydWarshall(IGraph, ForkJoinPool)}.
+     *
+     * @param g           the graph to be queried
+     * @param parallelism the amount of threads that relax the tiles
+     * @param <V>         the type of nodes in the graph
+     * @return a matrix of length 'n' by 'n', where 'n' is the amount of vertices in the graph. Position [i][j] returns the
+     * minimum distance required to traverse the graph from vertex 'i' to vertex 'j'
+     * @throws WrongGraphTypeException  if the given graph is unweighted
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public static <V> double[][] floydWarshall(IGraph<V> g, int parallelism) throws WrongGraphTypeException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return floydWarshall(g, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Floyd-Warshall's algorithm with the tiles of each round relaxed by the threads of the given pool. In the round
+     * of each tile on the diagonal, that tile is relaxed first, then every tile in its row and column at once, and
+     * then every other tile at once, since none of them depends on another of the same step. Each cell goes through
+     * the same additions in the same order as when relaxed by a single thread, so the result is the same bit for bit.
+     *
+     * @param g    the graph to be queried
+     * @param pool the pool whose threads relax the tiles, or null to relax them in the current thread
+     * @param <V>  the type of nodes in the graph
+     * @return a matrix of length 'n' by 'n', where 'n' is the amount of vertices in the graph. Position [i][j] returns the
+     * minimum distance required to traverse the graph from vertex 'i' to vertex 'j'
+     * @throws WrongGraphTypeException if the given graph is unweighted
+     */
+    public static <V> double[][] floydWarshall(IGraph<V> g, ForkJoinPool pool) throws WrongGraphTypeException {
         if (!g.isWeighted()) {
             throw new WrongGraphTypeException("Expected weighted graph");
         }
 
         int n = g.getVertexSize();
-        double[][] d = new double[n][n];
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++)
-                d[i][j] = g.weightMatrix()[i][j];
+        UniformWeight uniform = new UniformWeight();
+        for (int i = 0; i < n && !uniform.mixed; i++)
+            g.forEachNeighbor(i, uniform);
+        double c = Double.isNaN(uniform.weight) ? 1 : uniform.weight;
+        if (!uniform.mixed && c >= 0 && c == Math.rint(c) && c * n < 1L << 53) {//Every sum of weights is exact.
+            int[][] hops = allPairsUnweighted(g);
+            double[][] d = new double[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++)
+                    d[i][j] = hops[i][j] == Integer.MAX_VALUE ? Double.MAX_VALUE : hops[i][j] * c;
+                d[i][i] = g.weight(i, i);
+            }
+            return d;
         }
 
-        for (int k = 0; k < n; k++) {
-            double[][] dk = new double[n][n];
-            for (int j = 0; j < n; j++)
-                for (int i = 0; i < n; i++){
-                    if (d[i][k] == Double.MAX_VALUE || d[k][j] == Double.MAX_VALUE) {
-                        dk[i][j] = d[i][j];
-                    }else
-                        dk[i][j] = Math.min(d[i][j], d[i][k] + d[k][j]);}
-            d = dk;
+        double[][] d = g.weightMatrix();
+        int tiles = (n + FLOYD_WARSHALL_BLOCK - 1) / FLOYD_WARSHALL_BLOCK;
+        for (int kb = 0; kb < n; kb += FLOYD_WARSHALL_BLOCK) {
+            int ke = Math.min(kb + FLOYD_WARSHALL_BLOCK, n);
+            //Phase 1: the tile on the diagonal, which only depends on itself.
+            relaxTile(d, kb, ke, kb, ke, kb, ke);
+            //Phase 2: the tiles in row and column 'kb', which depend on themselves and the diagonal tile.
+            TileRelaxation pivot = new TileRelaxation(d, n, kb, true, 0, tiles);
+            //Phase 3: every other tile, which only reads the tiles of phase 2.
+            TileRelaxation rest = new TileRelaxation(d, n, kb, false, 0, tiles);
+            if (pool == null) {
+                pivot.relax();
+                rest.relax();
+            } else {
+                pool.invoke(pivot);
+                pool.invoke(rest);
+            }
         }
         return d;
     }
 
+    /**
+     * Relaxes the tiles of a range of tile rows of a distance matrix through the intermediate vertices of the tile
+     * on the diagonal at 'kb', splitting the range in halves between tasks while it holds more than one tile row.
+     */
+    private static final class TileRelaxation extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[][] d;
+        private final int n;
+
+        /**
+         * The first intermediate vertex, which is also the first row and column of the tile on the diagonal.
+         */
+        private final int kb;
+
+        /**
+         * If the tiles relaxed are those in the row and column of the tile on the diagonal, instead of all the others.
+         */
+        private final boolean pivot;
+
+        /**
+         * The range of tile rows relaxed by this task: [from, to).
+         */
+        private final int from;
+        private final int to;
+
+        TileRelaxation(double[][] d, int n, int kb, boolean pivot, int from, int to) {
+            this.d = d;
+            this.n = n;
+            this.kb = kb;
+            this.pivot = pivot;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new TileRelaxation(d, n, kb, pivot, from, mid), new TileRelaxation(d, n, kb, pivot, mid, to));
+            } else
+                relax();
+        }
+
+        /**
+         * Relaxes every tile of the range in the current thread.
+         */
+        void relax() {
+            int ke = Math.min(kb + FLOYD_WARSHALL_BLOCK, n);
+            for (int t = from; t < to; t++) {
+                int b = t * FLOYD_WARSHALL_BLOCK;
+                if (b == kb)
+                    continue;
+                int be = Math.min(b + FLOYD_WARSHALL_BLOCK, n);
+                if (pivot) {
+                    relaxTile(d, kb, ke, kb, ke, b, be);
+                    relaxTile(d, kb, ke, b, be, kb, ke);
+                } else
+                    for (int jb = 0; jb < n; jb += FLOYD_WARSHALL_BLOCK)
+                        if (jb != kb)
+                            relaxTile(d, kb, ke, b, be, jb, Math.min(jb + FLOYD_WARSHALL_BLOCK, n));
+            }
+        }
+    }
+
+    /**
+     * Relaxes the cells [i][j] of a tile of a distance matrix through every intermediate vertex 'k' of a range, in
+     * increasing order of 'k'. Paths through a cell that holds Double.MAX_VALUE are not considered.
+     *
+     * @param d  the distances
+     * @param kb the first intermediate vertex, inclusive
+     * @param ke the last intermediate vertex, exclusive
+     * @param ib the first row of the tile, inclusive
+     * @param ie the last row of the tile, exclusive
+     * @param jb the first column of the tile, inclusive
+     * @param je the last column of the tile, exclusive
+     */
+    private static void relaxTile(double[][] d, int kb, int ke, int ib, int ie, int jb, int je) {
+        for (int k = kb; k < ke; k++) {
+            double[] rowK = d[k];
+            for (int i = ib; i < ie; i++) {
+                double[] rowI = d[i];
+                double ik = rowI[k];
+                if (ik == Double.MAX_VALUE)
+                    continue;
+                for (int j = jb; j < je; j++) {
+                    double kj = rowK[j];
+                    if (kj != Double.MAX_VALUE && ik + kj < rowI[j])
+                        rowI[j] = ik + kj;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the least amount of edges needed to go from every vertex to every other one, by a breadth-first search
+     * from each vertex over the neighbors the graph reports. Takes O(V * E) time, which on sparse graphs is far less
+     * than the O(V^3) of {@link #floydWarshall(IGraph)}, and O(V) extra memory besides the result. Weights are ignored,
+     * except that edges of weight Double.MAX_VALUE in a weighted graph are not followed.
+     *
+     * @param g   the graph to be queried
+     * @param <V> the type of nodes in the graph
+     * @return a matrix of length 'n' by 'n', where 'n' is the amount of vertices in the graph. Position [i][j] holds
+     * the amount of edges in the shortest path from vertex 'i' to vertex 'j', or Integer.MAX_VALUE if there is none
+     */
+    public static <V> int[][] allPairsUnweighted(IGraph<V> g) {
+        int n = g.getVertexSize();
+        int[][] d = new int[n][];
+        Expansion expansion = new Expansion(n, g.isWeighted());
+        for (int s = 0; s < n; s++) {
+            d[s] = new int[n];
+            Arrays.fill(d[s], Integer.MAX_VALUE);
+            d[s][s] = 0;
+            expansion.row = d[s];
+            expansion.queue[0] = s;
+            expansion.tail = 1;
+            for (int head = 0; head < expansion.tail; head++) {
+                int u = expansion.queue[head];
+                expansion.hops = d[s][u] + 1;
+                g.forEachNeighbor(u, expansion);
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Enqueues every neighbor of a vertex that has not been reached yet by the current breadth-first search.
+     */
+    private static final class Expansion implements IntDoubleConsumer {
+
+        /**
+         * The vertices reached in the order they were, which is also the order in which they are expanded.
+         */
+        final int[] queue;
+
+        /**
+         * If edges of weight Double.MAX_VALUE are not followed, since the graph is weighted.
+         */
+        private final boolean weighted;
+
+        /**
+         * The amount of edges from the source to each vertex.
+         */
+        int[] row;
+
+        /**
+         * The amount of vertices in the queue.
+         */
+        int tail;
+
+        /**
+         * The amount of edges from the source to the neighbors being enqueued.
+         */
+        int hops;
+
+        Expansion(int n, boolean weighted) {
+            queue = new int[Math.max(n, 1)];
+            this.weighted = weighted;
+        }
+
+        @Override
+        public void accept(int v, double weight) {
+            if (weighted && weight == Double.MAX_VALUE)
+                return;
+            if (row[v] == Integer.MAX_VALUE) {
+                row[v] = hops;
+                queue[tail++] = v;
+            }
+        }
+    }
+
+    /**
+     * Checks whether every edge of a graph has the same weight, ignoring those of weight Double.MAX_VALUE.
+     */
+    private static final class UniformWeight implements IntDoubleConsumer {
+
+        /**
+         * The weight of the first edge seen, or NaN if none has been.
+         */
+        double weight = Double.NaN;
+
+        /**
+         * If an edge with a different weight has been seen.
+         */
+        boolean mixed;
+
+        @Override
+        public void accept(int v, double w) {
+            if (w == Double.MAX_VALUE)
+                return;
+            if (Double.isNaN(weight))
+                weight = w;
+            else if (w != weight)
+                mixed = true;
+        }
+    }
+
     /**
      * An algorithm based on Prim's approach to finding the minimum spanning tree in a connected, undirected graph from
      * a given source node. Returns an array of int representing the index of the vertex each node must move through to
@@ -278,89 +702,68 @@ public class GraphAlgorithms {
      * @throws WrongGraphTypeException if graph 'g' is not undirected
      */
     public <V> List<Edge> kruskal(IGraph<V> g) throws WrongGraphTypeException {
-        if (g.isDirected())
-            throw new WrongGraphTypeException("Graph is not undirected");
-
-        List<Edge> vertexSet = new LinkedList<>();
-        Map<Integer, subset> forest = new HashMap<>(g.getVertexSize());
-        NavigableSet<Double[]> orderedEdges = new TreeSet<>(Comparator.comparing(o -> o[2]));
-
-        for (int index : g.getVertices().values())
-            forest.put(index, makeSet(index));
-
-        for (int i = 0; i < g.getVertexSize(); i++) {
-            for (int j = 0; j < g.getVertexSize(); j++)
-                if (g.weightMatrix()[i][j] != Double.MAX_VALUE && i != j)
-                    orderedEdges.add(new Double[]{(double) i, (double) j, g.weightMatrix()[i][j]});
-        }
-
-        Double[] lightestEdge;
-        while (!orderedEdges.isEmpty()) {
-            lightestEdge = orderedEdges.pollFirst();
-            subset subsetOfU = forest.get(lightestEdge[0].intValue());
-            subset subsetOfV = forest.get(lightestEdge[1].intValue());
-            if (findSet(subsetOfU) != findSet(subsetOfV)) {
-                vertexSet.add(new Edge(lightestEdge[0].intValue(), lightestEdge[1].intValue(), lightestEdge[2]));
-                union(subsetOfU, subsetOfV);
-            }
-        }
+        EdgeList forest = kruskalEdges(g);
+        List<Edge> vertexSet = new ArrayList<>(forest.size());
+        forest.forEach((u, v, w) -> vertexSet.add(new Edge<>(u, v, w)));
         return vertexSet;
     }
 
     /**
-     * An auxiliary method to Kruskal's approach to building the MST of an undirected graph. Returns a new instance of
-     * the nested class 'subset' which represents a set or tree.
+     * Kruskal's approach to building the MST of a graph, over primitive columns. The edges are sorted once by weight
+     * and the trees are kept in an array-based disjoint-set forest, with union by rank and path halving.
      *
-     * @param index index of the vertex in the graph that this subset represents
-     * @return a new 'subset' whose only member is the vertex represented by the given index
+     * @param g   the graph whose MST is to be returned
+     * @param <V> the type of node in the graph
+     * @return the edges of the MST, or of a spanning forest if 'g' is disconnected, in the order they were chosen
+     * @throws WrongGraphTypeException if graph 'g' is not undirected
      */
-    private subset makeSet(int index) {
-        subset toAdd = new subset();
-        toAdd.parent = toAdd;
-        toAdd.index = index;
-        toAdd.rank = 0;
-        return toAdd;
+    public <V> EdgeList kruskalEdges(IGraph<V> g) throws WrongGraphTypeException {
+        if (g.isDirected())
+            throw new WrongGraphTypeException("Graph is not undirected");
+
+        EdgeList orderedEdges = g.edgeList();
+        orderedEdges.sortByWeight();
+        int[] parent = new int[g.getVertexSize()];
+        int[] rank = new int[g.getVertexSize()];
+        for (int i = 0; i < parent.length; i++)
+            parent[i] = i;
+
+        EdgeList forest = new EdgeList(g.getVertices().size());
+        for (int i = 0; i < orderedEdges.size(); i++) {
+            int u = orderedEdges.src(i);
+            int v = orderedEdges.dst(i);
+            if (u == v || orderedEdges.weight(i) == Double.MAX_VALUE)
+                continue;//Loops and unweighted edges are not part of the MST.
+            int rootOfU = findSet(parent, u);
+            int rootOfV = findSet(parent, v);
+            if (rootOfU != rootOfV) {
+                forest.add(u, v, orderedEdges.weight(i));
+                if (rank[rootOfU] < rank[rootOfV])
+                    parent[rootOfU] = rootOfV;
+                else if (rank[rootOfU] > rank[rootOfV])
+                    parent[rootOfV] = rootOfU;
+                else {
+                    parent[rootOfV] = rootOfU;
+                    rank[rootOfU]++;
+                }
+            }
+        }
+        return forest;
     }
 
     /**
-     * An auxiliary method to Kruskal's approach to building the MST of an undirected graph. Finds the index of the
-     * vertex that acts as the root of the tree of the given subset.
+     * An auxiliary method to Kruskal's approach to building the MST of an undirected graph. Finds the root of the tree
+     * that holds the given vertex, making every other vertex on the way point to its grandparent.
      *
-     * @param s the subset whose root is to be found
+     * @param parent the parent of each vertex in the forest, or the vertex itself if it is a root
+     * @param index  index of the vertex in the graph
      * @return the index of the root vertex in the graph
      */
-    private int findSet(subset s) {
-        int index = -1;
-        if (s != s.parent)
-            findSet(s.parent);
-        else
-            index = s.index;
+    private int findSet(int[] parent, int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
         return index;
     }
-
-    /**
-     * An auxiliary method to Kruskal's approach to building the MST of an undirected graph. Joins the two given
-     * subsets into a single one so that one becomes the parent of the other.
-     *
-     * @param u one of the subsets to be joined
-     * @param v one of the subsets to be joined
-     */
-    private void union(subset u, subset v) {
-        if (u.rank > v.rank)
-            v.parent = u;
-        else
-            u.parent = v;
-        if (u.rank == v.rank)
-            v.rank++;
-    }
-
-    /**
-     * Nested class used by Kruskal's approach to building the MST of an undirected graph. It models nodes of a tree
-     * that represent individual sets.
-     */
-    private class subset {
-        subset parent;
-        int index;
-        int rank;
-    }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import exceptions.ElementNotFoundException;
 import exceptions.WrongEdgeTypeException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +26,15 @@ public interface IGraph<V> {
      */
     boolean addVertex(V u) throws ElementAlreadyPresentException;
 
+    /**
+     * Adds every vertex of the given collection to the graph, in iteration order, as {@link #addVertex(Object)} would.
+     *
+     * @param us The new vertices to be added
+     * @return True if they were added
+     * @throws ElementAlreadyPresentException if a vertex was already in the graph. The vertices before it are kept
+     */
+    boolean addVertices(Collection<? extends V> us) throws ElementAlreadyPresentException;
+
     /**
      * Adds an edge to the graph
      * If the graph is directed the connection will be from U to V
@@ -44,6 +54,31 @@ public interface IGraph<V> {
      */
     boolean addEdge(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException;
 
+    /**
+     * Adds an edge from the vertex at index u[i] to the vertex at index v[i] for every i, in a single pass and without
+     * looking the vertices up.
+     * If the graph is undirected, each edge also connects V to U
+     * <pre> u and v have the same length and hold indices of vertices within the graph
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @return True if the edges were added
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is added then
+     */
+    boolean addEdges(int[] u, int[] v) throws WrongEdgeTypeException, ElementNotFoundException;
+
+    /**
+     * Adds an edge of weight w[i] from the vertex at index u[i] to the vertex at index v[i] for every i, in a single
+     * pass and without looking the vertices up.
+     * If the graph is undirected, each edge also connects V to U
+     * <pre> u, v and w have the same length and u and v hold indices of vertices within the graph
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @param w the weights of the edges
+     * @return True if the edges were added
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is added then
+     */
+    boolean addEdges(int[] u, int[] v, double[] w) throws WrongEdgeTypeException, ElementNotFoundException;
+
     /**
      * Removes a vertex within the graph
      *
@@ -60,6 +95,42 @@ public interface IGraph<V> {
      */
     boolean removeEdge(V u, V v) throws ElementNotFoundException;
 
+    /**
+     * Removes the edge from the vertex at index u[i] to the vertex at index v[i] for every i, in a single pass over the
+     * affected vertices. Pairs of vertices without an edge are skipped.
+     * If the graph is undirected, each edge is also removed from V to U
+     * <pre> u and v have the same length and hold indices of vertices within the graph
+     * @param u indices of the vertices from which the edges originate
+     * @param v indices of the vertices to which the edges arrive
+     * @return True if at least one edge was removed
+     * @throws ElementNotFoundException if any index does not belong to a vertex. No edge is removed then
+     */
+    boolean removeEdges(int[] u, int[] v) throws ElementNotFoundException;
+
+    /**
+     * Changes the weight of the edge from U to V without removing it, and of the edge from V to U if the graph is
+     * undirected
+     * <pre> U and V are within the graph
+     * @param u The vertex from which the edge originates
+     * @param v The vertex to which the edge arrives
+     * @param w The new weight of the edge
+     * @return True if the weight was changed or false if there is no such edge
+     * @throws WrongEdgeTypeException if the graph is unweighted
+     */
+    boolean setWeight(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException;
+
+    /**
+     * Adds an edge of weight W from U to V, or lowers the weight of the existing edge to W if W is lighter, so that
+     * only the lightest of several parallel edges is kept
+     * <pre> U and V are within the graph
+     * @param u The vertex from which the edge originates
+     * @param v The vertex to which the edge arrives
+     * @param w The weight of the edge
+     * @return True if the edge was added or its weight was lowered
+     * @throws WrongEdgeTypeException if the graph is unweighted
+     */
+    boolean mergeEdgeMin(V u, V v, double w) throws WrongEdgeTypeException, ElementNotFoundException;
+
     /**
      * Gives a list of adjacent vertices of V
      * <pre> V Is within the graph
@@ -68,6 +139,16 @@ public interface IGraph<V> {
      */
     List<V> vertexAdjacent(V u) throws ElementNotFoundException;
 
+    /**
+     * Reports every edge that leaves the vertex at index 'index' to the given consumer, along with the index of the
+     * vertex at which it arrives, in the same order as {@link #vertexAdjacent(Object)}. No list is built. If the graph
+     * is unweighted, the reported weight is Double.MAX_VALUE.
+     * <pre> 'index' is the index of a vertex within the graph
+     * @param index    the index of the vertex whose edges are to be reported
+     * @param consumer the operation to perform on each neighbor
+     */
+    void forEachNeighbor(int index, IntDoubleConsumer consumer);
+
     /**
      * Check if U and V are connected
      * <pre> U and V are within the graph
@@ -79,10 +160,20 @@ public interface IGraph<V> {
 
     /**
      * <pre> The graph is weighted
-     * @return A matrix with the weight of all the connections
+     * @return A new matrix with the weight of all the connections, which the caller is free to modify
      */
     double[][] weightMatrix();
 
+    /**
+     * Gives the weight of the edge from the vertex at index 'i' to the vertex at index 'j', as it appears in
+     * {@link #weightMatrix()}, without the caller needing the whole matrix.
+     * <pre> 'i' and 'j' are indices of vertices within the graph
+     * @param i index of the vertex from which the edge originates
+     * @param j index of the vertex to which the edge arrives
+     * @return the weight of the edge, or Double.MAX_VALUE if there is none
+     */
+    double weight(int i, int j);
+
     /**
      * Returns whether the graph is directed.
      *
@@ -106,6 +197,15 @@ public interface IGraph<V> {
      */
     int getIndex(V u) throws ElementNotFoundException;
 
+    /**
+     * Returns the vertex stored at the given index. Inverse of {@link #getIndex(Object)}.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at said index
+     * @throws ElementNotFoundException if there is no vertex at said index
+     */
+    V getVertex(int index) throws ElementNotFoundException;
+
     /**
      * Gives the amount of vertices in the graph.
      *
@@ -121,15 +221,23 @@ public interface IGraph<V> {
     Map<V, Integer> getVertices();
 
     /**
-     * Returns an ArrayList listing all of the vertices in this graph.
-     * @return Said ArrayList
+     * Returns a read-only view of the edges in this graph, computed from its adjacency storage while it is iterated,
+     * sequentially or through its Spliterator. Each undirected edge is listed once.
+     * @return Said view
+     */
+    Collection<Edge> getEdgesArray();
+
+    /**
+     * Lists the edges in this graph as the indices of their vertices along with their weights, in primitive columns.
+     * Each undirected edge is listed once, from the vertex with the lower index.
+     * @return Said list. Unweighted edges have weight Double.MAX_VALUE
      */
-    List<Edge> getEdgesArray();
+    EdgeList edgeList();
 
     /**
-     * Gives a Map that pairs the starting vertex with a List of maps that represent all vertices
-     * it arrives to along with the value of its edge. If the graph is unweighted, the edges' value
-     * is set to Double.MAX_VALUE by default.
+     * Gives a read-only view that pairs the starting vertex with a List of maps that represent all vertices
+     * it arrives to along with the value of its edge, computed from the adjacency storage while it is read.
+     * If the graph is unweighted, the edges' value is set to Double.MAX_VALUE by default.
      *
      * @return a Map that represents a vertex and all edges that originate from itself
      */
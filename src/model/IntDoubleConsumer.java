@@ -0,0 +1,20 @@
+package model;
+
+/**
+ * Represents an operation that accepts the index of a vertex along with the weight of the edge that reaches it. Used
+ * to report the neighbors of a vertex without building lists or boxing their values.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+@FunctionalInterface
+public interface IntDoubleConsumer {
+
+    /**
+     * Performs this operation on the given neighbor.
+     *
+     * @param index  the index of the adjacent vertex
+     * @param weight the weight of the edge that reaches it
+     */
+    void accept(int index, double weight);
+}
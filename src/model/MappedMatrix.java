@@ -0,0 +1,216 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A square matrix of double values kept off the heap, in a memory-mapped file, so that it is not scanned by the
+ * garbage collector and the operating system decides which parts stay in memory.
+ * <p>
+ * Cells are laid out in shells: shell 'm' holds every cell whose row or column is 'm' and begins at position m * m,
+ * first with column 'm' from row 0 to m - 1 and then with row 'm' from column 0 to 'm'. Since said position does not
+ * depend on the length of the matrix, enlarging it only appends cells at the end of the file, and a file written by a
+ * previous process can be mapped again as it is. The file is mapped in chunks of 2^27 cells (1 GiB).
+ * <p>
+ * A symmetric matrix, which backs an undirected graph, writes every value to both [i][j] and [j][i], so that either
+ * cell can be read, also by a later process that restores the file.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+final class MappedMatrix implements MatrixStorage {
+
+    /**
+     * The base 2 logarithm of the amount of cells held by each mapped chunk.
+     */
+    private static final int CHUNK_SHIFT = 27;
+
+    /**
+     * The amount of cells held by each mapped chunk.
+     */
+    private static final long CHUNK_CELLS = 1L << CHUNK_SHIFT;
+
+    /**
+     * The file that backs the matrix.
+     */
+    private final Path file;
+
+    /**
+     * The value of every cell that has not been set.
+     */
+    private final double defaultValue;
+
+    /**
+     * If every value set in [i][j] is also set in [j][i].
+     */
+    private final boolean symmetric;
+
+    /**
+     * The amount of cells that the file already held when it was opened.
+     */
+    private final long restoredCells;
+
+    /**
+     * The amount of complete shells that the file already held when it was opened.
+     */
+    private final int restoredCapacity;
+
+    /**
+     * The mapped regions of the file, in order.
+     */
+    private DoubleBuffer[] chunks;
+
+    /**
+     * The amount of cells currently mapped.
+     */
+    private long mappedCells;
+
+    /**
+     * The amount of rows and columns of the matrix.
+     */
+    private int capacity;
+
+    /**
+     * Opens or creates the given file and maps a matrix of at least the given length onto it. Cells that the file
+     * already held keep their values, and new ones are set to the default value.
+     *
+     * @param file         the file that backs the matrix
+     * @param capacity     the minimum amount of rows and columns of the matrix
+     * @param defaultValue the value of every cell that has not been set
+     * @param symmetric    true if every value set in [i][j] must also be set in [j][i]
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    MappedMatrix(Path file, int capacity, double defaultValue, boolean symmetric) throws IOException {
+        this.file = file;
+        this.defaultValue = defaultValue;
+        this.symmetric = symmetric;
+        restoredCells = Files.exists(file) ? Files.size(file) / Double.BYTES : 0;
+        int restored = (int) Math.sqrt((double) restoredCells);
+        while ((long) restored * restored > restoredCells)
+            restored--;
+        while ((long) (restored + 1) * (restored + 1) <= restoredCells)
+            restored++;
+        restoredCapacity = restored;
+        chunks = new DoubleBuffer[0];
+        map(Math.max(capacity, restoredCapacity));
+    }
+
+    /**
+     * Gives the amount of rows and columns whose cells were already in the file when it was opened.
+     *
+     * @return said amount
+     */
+    int restoredCapacity() {
+        return restoredCapacity;
+    }
+
+    /**
+     * Maps the cells of a matrix of the given length, remapping the last chunk if it was mapped partially, and sets
+     * every cell that was neither mapped nor restored to the default value.
+     *
+     * @param newCapacity the new amount of rows and columns
+     * @throws IOException if the file cannot be mapped
+     */
+    private void map(int newCapacity) throws IOException {
+        long cells = (long) newCapacity * newCapacity;
+        int chunkCount = (int) ((cells + CHUNK_CELLS - 1) >>> CHUNK_SHIFT);
+        DoubleBuffer[] newChunks = Arrays.copyOf(chunks, chunkCount);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            for (int c = (int) (mappedCells >>> CHUNK_SHIFT); c < chunkCount; c++) {
+                long start = (long) c << CHUNK_SHIFT;
+                long length = Math.min(CHUNK_CELLS, cells - start);
+                newChunks[c] = channel.map(FileChannel.MapMode.READ_WRITE, start * Double.BYTES, length * Double.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            }
+        }
+        chunks = newChunks;
+        for (long p = Math.max(mappedCells, restoredCells); p < cells; p++)
+            put(p, defaultValue);
+        mappedCells = cells;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Gives the position in the file of cell [i][j].
+     *
+     * @param i the row of the cell
+     * @param j the column of the cell
+     * @return said position, counted in cells
+     */
+    private static long position(int i, int j) {
+        int m = Math.max(i, j);
+        return (long) m * m + (i < m ? i : m + j);
+    }
+
+    /**
+     * Writes a value at the given position of the file.
+     *
+     * @param p     the position, counted in cells
+     * @param value the value to be written
+     */
+    private void put(long p, double value) {
+        chunks[(int) (p >>> CHUNK_SHIFT)].put((int) (p & (CHUNK_CELLS - 1)), value);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void grow(int newCapacity) {
+        if (newCapacity > capacity) {
+            try {
+                map(newCapacity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public double get(int i, int j) {
+        long p = position(i, j);
+        return chunks[(int) (p >>> CHUNK_SHIFT)].get((int) (p & (CHUNK_CELLS - 1)));
+    }
+
+    @Override
+    public void set(int i, int j, double value) {
+        put(position(i, j), value);
+        if (symmetric)
+            put(position(j, i), value);
+    }
+
+    @Override
+    public void clear(int i, int j) {
+        set(i, j, defaultValue);
+    }
+
+    @Override
+    public void clear(int i) {
+        long shell = (long) i * i;
+        for (int k = 0; k <= 2 * i; k++)
+            put(shell + k, defaultValue);
+        for (int m = i + 1; m < capacity; m++) {
+            put(position(i, m), defaultValue);
+            put(position(m, i), defaultValue);
+        }
+    }
+
+    @Override
+    public double[][] toArray(int n) {
+        double[][] array = new double[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                array[i][j] = get(i, j);
+        return array;
+    }
+}
@@ -0,0 +1,66 @@
+package model;
+
+/**
+ * The minimum features of a square matrix of double values used to store the weights of an AdjacencyMatrixGraph, no
+ * matter how its cells are laid out in memory.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+interface MatrixStorage {
+
+    /**
+     * Gives the amount of rows and columns of the matrix.
+     *
+     * @return said amount
+     */
+    int capacity();
+
+    /**
+     * Enlarges the matrix to the given length, keeping every value already set.
+     *
+     * @param newCapacity the new amount of rows and columns. Must not be lesser than the current one
+     */
+    void grow(int newCapacity);
+
+    /**
+     * Returns the value of cell [i][j].
+     *
+     * @param i the row of the cell
+     * @param j the column of the cell
+     * @return said value
+     */
+    double get(int i, int j);
+
+    /**
+     * Sets the value of cell [i][j].
+     *
+     * @param i     the row of the cell
+     * @param j     the column of the cell
+     * @param value the new value of the cell
+     */
+    void set(int i, int j, double value);
+
+    /**
+     * Sets cell [i][j] back to the default value.
+     *
+     * @param i the row of the cell
+     * @param j the column of the cell
+     */
+    void clear(int i, int j);
+
+    /**
+     * Sets every cell in row 'i' and column 'i' back to the default value.
+     *
+     * @param i the row and column to be cleared
+     */
+    void clear(int i);
+
+    /**
+     * Copies the first 'n' rows and columns of the matrix into a new array.
+     *
+     * @param n the amount of rows and columns to be copied
+     * @return a new n by n array with the values of the matrix
+     */
+    double[][] toArray(int n);
+}
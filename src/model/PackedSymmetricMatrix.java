@@ -0,0 +1,155 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A symmetric square matrix of double values that only stores its upper triangle, diagonal included. Cell [i][j] and
+ * cell [j][i] share the same position, so the matrix takes half the memory of a full one.
+ * <p>
+ * The triangle is laid out column by column: column 'j' holds rows 0 to 'j' and begins at position j * (j + 1) / 2.
+ * The columns are kept in chunks of 64, each in its own array, which is allocated lazily the first time one of its
+ * cells is given a value other than the default one. Since a column never moves, enlarging the matrix only enlarges the
+ * directory of chunks, without copying any of them.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+final class PackedSymmetricMatrix implements MatrixStorage {
+
+    /**
+     * The base 2 logarithm of the amount of columns held by each chunk.
+     */
+    private static final int CHUNK_SHIFT = 6;
+
+    /**
+     * The amount of columns held by each chunk.
+     */
+    private static final int CHUNK_COLUMNS = 1 << CHUNK_SHIFT;
+
+    /**
+     * The directory of chunks. Chunk 'c' holds the columns from c * CHUNK_COLUMNS, each one after the other. A null
+     * chunk has every cell set to the default value.
+     */
+    private double[][] chunks;
+
+    /**
+     * The value of every cell that has not been set.
+     */
+    private final double defaultValue;
+
+    /**
+     * The amount of rows and columns of the matrix.
+     */
+    private int capacity;
+
+    /**
+     * Creates a matrix of the given length with every cell set to the default value.
+     *
+     * @param capacity     the amount of rows and columns of the matrix
+     * @param defaultValue the value of every cell that has not been set
+     */
+    PackedSymmetricMatrix(int capacity, double defaultValue) {
+        this.defaultValue = defaultValue;
+        this.capacity = capacity;
+        chunks = new double[chunksFor(capacity)][];
+    }
+
+    /**
+     * Gives the amount of chunks needed by a matrix of the given length.
+     *
+     * @param capacity the amount of rows and columns of the matrix
+     * @return said amount of chunks
+     */
+    private static int chunksFor(int capacity) {
+        return (capacity + CHUNK_COLUMNS - 1) >>> CHUNK_SHIFT;
+    }
+
+    /**
+     * Gives the position in the triangle at which column 'j' begins.
+     *
+     * @param j the column
+     * @return said position
+     */
+    private static long columnStart(int j) {
+        return (long) j * (j + 1) >>> 1;
+    }
+
+    /**
+     * Gives the position of cell [i][j] of the upper triangle within the chunk of column 'j'.
+     *
+     * @param i the row of the cell. Must not be greater than 'j'
+     * @param j the column of the cell
+     * @return said position
+     */
+    private static int offset(int i, int j) {
+        return (int) (columnStart(j) - columnStart(j & -CHUNK_COLUMNS)) + i;
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void grow(int newCapacity) {
+        int count = chunksFor(newCapacity);
+        if (count > chunks.length)
+            chunks = Arrays.copyOf(chunks, count);
+        capacity = newCapacity;
+    }
+
+    @Override
+    public double get(int i, int j) {
+        if (i > j)
+            return get(j, i);
+        double[] chunk = chunks[j >>> CHUNK_SHIFT];
+        return chunk == null ? defaultValue : chunk[offset(i, j)];
+    }
+
+    @Override
+    public void set(int i, int j, double value) {
+        if (i > j) {
+            set(j, i, value);
+            return;
+        }
+        double[] chunk = chunks[j >>> CHUNK_SHIFT];
+        if (chunk == null) {
+            if (value == defaultValue)
+                return;
+            int first = j & -CHUNK_COLUMNS;
+            chunk = chunks[j >>> CHUNK_SHIFT] = new double[(int) (columnStart(first + CHUNK_COLUMNS) - columnStart(first))];
+            Arrays.fill(chunk, defaultValue);
+        }
+        chunk[offset(i, j)] = value;
+    }
+
+    @Override
+    public void clear(int i, int j) {
+        set(i, j, defaultValue);
+    }
+
+    @Override
+    public void clear(int i) {
+        double[] chunk = chunks[i >>> CHUNK_SHIFT];
+        if (chunk != null) {
+            int start = offset(0, i);
+            Arrays.fill(chunk, start, start + i + 1, defaultValue);
+        }
+        for (int j = i + 1; j < capacity; j++) {
+            chunk = chunks[j >>> CHUNK_SHIFT];
+            if (chunk != null)
+                chunk[offset(i, j)] = defaultValue;
+        }
+    }
+
+    @Override
+    public double[][] toArray(int n) {
+        double[][] array = new double[n][n];
+        for (int j = 0; j < n; j++)
+            for (int i = 0; i <= j; i++) {
+                array[i][j] = get(i, j);
+                array[j][i] = array[i][j];
+            }
+        return array;
+    }
+}
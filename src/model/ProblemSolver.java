@@ -1,5 +1,6 @@
 package model;
 
+import collections.SymbolTable;
 import exceptions.ElementAlreadyPresentException;
 import exceptions.ElementNotFoundException;
 import exceptions.WrongEdgeTypeException;
@@ -43,7 +44,7 @@ public class ProblemSolver {
         }
     }
 
-    private String generateDOP(String in) throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, WrongGraphTypeException {
+    private String generateDOP(String in) throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
         //Graph to be replaced anytime a new network is created
         IGraph<String> graph;
         //The input to be solved
@@ -56,37 +57,50 @@ public class ProblemSolver {
         String person2;
         //The Network represented in a single line
         String[] input;
-        //The weight matrix after the Floyd-Warshall algorithm has been applied
-        double[][] solution;
+        //The amount of edges between each pair of people, found by a breadth-first search from each person
+        int[][] solution;
         //An auxiliary counter to keep track of the current line in input.
         int k = 0;
-        //Number of edges in the network, maximum degree of separation possible
-        int edges, degreeOfSeparation;
+        //Number of people and edges in the network, maximum degree of separation possible
+        int people, edges, degreeOfSeparation;
         //A counter that indicates the number of the network
         int counter = 0;
         while(!parts[k].equals("0 0")) {
-            graph = new AdjacencyMatrixGraph<>(false, true);
+            people = Integer.parseInt(parts[k].split(" ")[0]);
             edges = Integer.parseInt(parts[k].split(" ")[1]);
+            graph = new AdaptiveGraph<>(false, true, people, edges);
             degreeOfSeparation = -1;
             counter++;
             input = parts[k + 1].split(" ");
+            //Each person gets a dense id in order of appearance, so that the graph is built in one pass
+            SymbolTable ids = new SymbolTable(people);
+            int[] from = new int[input.length / 2];
+            int[] to = new int[input.length / 2];
             for (int i = 0; i < input.length - 1; i += 2) {
                 person1 = input[i];
                 person2 = input[i + 1];
-                if (graph.getVertices().get(person1) == null) {
-                    graph.addVertex(person1);
-                }
-                if (graph.getVertices().get(person2) == null) {
-                    graph.addVertex(person2);
-                }
-
-                graph.addEdge(person1, person2, 1);
+                from[i / 2] = ids.intern(person1);
+                to[i / 2] = ids.intern(person2);
             }
-            solution = GraphAlgorithms.floydWarshall(graph);
+            List<String> names = new ArrayList<>(ids.size());
+            for (int id = 0; id < ids.size(); id++)
+                names.add(ids.label(id));
+            graph.addVertices(names);
+            int[] indices = new int[ids.size()];
+            for (int id = 0; id < ids.size(); id++)
+                indices[id] = graph.getIndex(names.get(id));
+            for (int i = 0; i < from.length; i++) {
+                from[i] = indices[from[i]];
+                to[i] = indices[to[i]];
+            }
+            double[] weights = new double[from.length];
+            Arrays.fill(weights, 1);
+            graph.addEdges(from, to, weights);
+            solution = GraphAlgorithms.allPairsUnweighted(graph);
             for (int i = 0; i < graph.getVertexSize(); i++) {
                 for (int j = 0; j < graph.getVertexSize(); j++) {
                     if (solution[i][j] > degreeOfSeparation) {
-                        degreeOfSeparation = (int) solution[i][j];
+                        degreeOfSeparation = solution[i][j];
                     }
                 }
             }
@@ -110,39 +124,40 @@ public class ProblemSolver {
         String edge;
         String out = "";
         int edgeSize;
-        double[][] solution;
+        //The longest word of the current case, which bounds the weights for the bucket queue
+        int maxEdgeSize;
         IGraph<String> graph;
+        //The languages seen in the current case, so that the graph is not searched for each of them
+        SymbolTable languages;
         while((words = Integer.parseInt(parts[k]))!= 0){
-            graph = new AdjacencyMatrixGraph<>(false, true);
+            graph = new AdaptiveGraph<>(false, true, 2 * words + 2, words);
+            languages = new SymbolTable(2 * words + 2);
+            maxEdgeSize = 0;
             input = parts[k+1].split(" ");
             startLang = input[0];
             endLang = input[1];
-            graph.addVertex(startLang);
-            graph.addVertex(endLang);
+            if (isNew(languages, startLang))
+                graph.addVertex(startLang);
+            if (isNew(languages, endLang))
+                graph.addVertex(endLang);
             for(int i = 0; i<words; i++){
-                input = parts[k+1+i].split(" ");
+                input = parts[k+2+i].split(" ");
                 lang1 = input[0];
                 lang2 = input[1];
                 edge = input[2];
                 edgeSize = input[2].length();
-                if (graph.getVertices().get(lang1) == null)//Checks presence of lang1 in the graph.
+                maxEdgeSize = Math.max(maxEdgeSize, edgeSize);
+                if (isNew(languages, lang1))//Checks presence of lang1 in the graph.
                     graph.addVertex(lang1);
-                if (graph.getVertices().get(lang2) == null)//Checks presence of lang2 in the graph.
+                if (isNew(languages, lang2))//Checks presence of lang2 in the graph.
                     graph.addVertex(lang2);
 
-                if (graph.areConnected(lang1, lang2)) {
-                    int index1 = graph.getIndex(lang1);
-                    int index2 = graph.getIndex(lang2);
-                    /*if (edge < graph.weightMatrix()[index1][index2]) {
-                        graph.removeEdge(lang1, lang2);
-                        graph.addEdge(lang1, lang2, edge);
-                    }*/
-                } else{}
-                // graph.addEdge(lang1, lang2, edge);
+                //Only the shortest word between two languages matters, so the lighter edge is kept.
+                graph.mergeEdgeMin(lang1, lang2, edgeSize);
             }
-            solution = GraphAlgorithms.dijkstra(graph, startLang);
-            if (solution[graph.getIndex(endLang)][0] != Double.MAX_VALUE)
-                out += (int) solution[graph.getIndex(endLang)][0] + "\n";
+            ShortestPaths paths = GraphAlgorithms.dial(graph, startLang, maxEdgeSize);
+            if (paths.hasPathTo(graph.getIndex(endLang)))
+                out += (int) paths.distance(graph.getIndex(endLang)) + "\n";
             else
                 out += "impossivel";
 
@@ -152,13 +167,37 @@ public class ProblemSolver {
         return out;
     }
 
+    /**
+     * Interns the given label and tells whether it was seen for the first time.
+     * @param table the labels seen so far
+     * @param label the label to be interned
+     * @return true if the label was not in the table
+     */
+    private static boolean isNew(SymbolTable table, String label) {
+        int known = table.size();
+        return table.intern(label) == known;
+    }
+
+    /**
+     * Builds the visual representation of the given graph. Its edges are read as indices and weights, without
+     * creating an Edge per edge; weights are shown as the label of each edge.
+     * @param g the graph to be represented
+     * @return a GraphStream graph with a node per vertex and an edge per edge
+     */
     public Graph getRepGraph(IGraph<String> g){
         Graph ret = new MultiGraph("Problem graph");
         ret.setStrict(false);
         ret.setAutoCreate(true);
-        for(Edge e: g.getEdgesArray()) {
-            String v = null;
-            String u = null;
+        String[] names = new String[g.getVertexSize()];
+        for (Map.Entry<String, Integer> vertex : g.getVertices().entrySet()) {
+            names[vertex.getValue()] = vertex.getKey();
+            ret.addNode(vertex.getKey()).addAttribute("ui.label", vertex.getKey());
+        }
+        EdgeList edges = g.edgeList();
+        for (int i = 0; i < edges.size(); i++) {
+            org.graphstream.graph.Edge e = ret.addEdge("e" + i, names[edges.src(i)], names[edges.dst(i)], g.isDirected());
+            if (g.isWeighted())
+                e.addAttribute("ui.label", edges.weight(i));
         }
 
         return ret;
@@ -0,0 +1,121 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * The shortest paths from a source vertex to every vertex of a graph, as found by a single-source algorithm. Vertices
+ * are identified by their index in the graph.
+ * <p>
+ * The distance to a vertex that cannot be reached is Double.MAX_VALUE, and its parent is -1, as is the parent of the
+ * source.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+public class ShortestPaths {
+
+    /**
+     * The index of the vertex from which every path starts.
+     */
+    private final int source;
+
+    /**
+     * The length of the shortest path to each vertex.
+     */
+    private final double[] dist;
+
+    /**
+     * The vertex that precedes each one in its shortest path.
+     */
+    private final int[] parent;
+
+    /**
+     * Creates the shortest paths from the given source with every vertex unreached.
+     *
+     * @param source the index of the source
+     * @param size   the amount of indices in the graph
+     */
+    ShortestPaths(int source, int size) {
+        this.source = source;
+        dist = new double[size];
+        parent = new int[size];
+        Arrays.fill(dist, Double.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        dist[source] = 0.0;
+    }
+
+    /**
+     * Gives the index of the vertex from which every path starts.
+     *
+     * @return said index
+     */
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the length of the shortest path to each vertex, by index. The array is not copied.
+     *
+     * @return said lengths
+     */
+    public double[] getDistances() {
+        return dist;
+    }
+
+    /**
+     * Returns the vertex that precedes each one in its shortest path, by index. The array is not copied.
+     *
+     * @return said vertices
+     */
+    public int[] getParents() {
+        return parent;
+    }
+
+    /**
+     * Gives the length of the shortest path to the given vertex.
+     *
+     * @param index the index of the vertex
+     * @return said length, or Double.MAX_VALUE if the vertex cannot be reached
+     */
+    public double distance(int index) {
+        return dist[index];
+    }
+
+    /**
+     * Gives the vertex that precedes the given one in its shortest path.
+     *
+     * @param index the index of the vertex
+     * @return the index of said vertex, or -1 if there is none
+     */
+    public int parent(int index) {
+        return parent[index];
+    }
+
+    /**
+     * Indicates if there is a path from the source to the given vertex.
+     *
+     * @param index the index of the vertex
+     * @return true if it can be reached
+     */
+    public boolean hasPathTo(int index) {
+        return dist[index] != Double.MAX_VALUE;
+    }
+
+    /**
+     * Lists the vertices of the shortest path to the given vertex, from the source to it.
+     *
+     * @param index the index of the vertex
+     * @return the indices of said vertices, or an empty array if it cannot be reached
+     */
+    public int[] pathTo(int index) {
+        if (!hasPathTo(index))
+            return new int[0];
+        int length = 1;
+        for (int v = index; v != source; v = parent[v])
+            length++;
+        int[] path = new int[length];
+        for (int v = index; length > 0; v = parent[v])
+            path[--length] = v;
+        return path;
+    }
+}
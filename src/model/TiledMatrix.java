@@ -0,0 +1,163 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A square matrix of double values stored in tiles of 64 by 64 cells. Tiles are allocated lazily, the first time one
+ * of their cells is given a value other than the default one, so untouched regions of a sparse matrix take no memory.
+ * Enlarging the matrix only enlarges the directory of tiles, without copying any of them.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+final class TiledMatrix implements MatrixStorage {
+
+    /**
+     * The amount of rows and columns held by each tile.
+     */
+    static final int TILE_SIZE = BitMatrix.TILE_SIZE;
+
+    /**
+     * The directory of tiles, indexed by [row / TILE_SIZE][column / TILE_SIZE]. Each tile stores its cells row by
+     * row. A null tile has every cell set to the default value.
+     */
+    private double[][][] tiles;
+
+    /**
+     * The value of every cell that has not been set.
+     */
+    private final double defaultValue;
+
+    /**
+     * The amount of rows and columns of the matrix.
+     */
+    private int capacity;
+
+    /**
+     * Creates a matrix of the given length with every cell set to the default value.
+     *
+     * @param capacity     the amount of rows and columns of the matrix
+     * @param defaultValue the value of every cell that has not been set
+     */
+    TiledMatrix(int capacity, double defaultValue) {
+        int blocks = BitMatrix.blocksFor(capacity);
+        tiles = new double[blocks][blocks][];
+        this.defaultValue = defaultValue;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gives the amount of rows and columns of the matrix.
+     *
+     * @return said amount
+     */
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Enlarges the matrix to the given length, keeping every value already set. Only the directory of tiles is copied.
+     *
+     * @param newCapacity the new amount of rows and columns. Must not be lesser than the current one
+     */
+    @Override
+    public void grow(int newCapacity) {
+        int blocks = BitMatrix.blocksFor(newCapacity);
+        if (blocks > tiles.length) {
+            double[][][] newTiles = Arrays.copyOf(tiles, blocks);
+            for (int i = 0; i < blocks; i++)
+                newTiles[i] = i < tiles.length ? Arrays.copyOf(tiles[i], blocks) : new double[blocks][];
+            tiles = newTiles;
+        }
+        capacity = newCapacity;
+    }
+
+    /**
+     * Returns the value of cell [i][j].
+     *
+     * @param i the row of the cell
+     * @param j the column of the cell
+     * @return said value
+     */
+    @Override
+    public double get(int i, int j) {
+        double[] tile = tiles[i / TILE_SIZE][j / TILE_SIZE];
+        return tile == null ? defaultValue : tile[(i % TILE_SIZE) * TILE_SIZE + j % TILE_SIZE];
+    }
+
+    /**
+     * Sets the value of cell [i][j], allocating its tile if needed.
+     *
+     * @param i     the row of the cell
+     * @param j     the column of the cell
+     * @param value the new value of the cell
+     */
+    @Override
+    public void set(int i, int j, double value) {
+        double[][] tileRow = tiles[i / TILE_SIZE];
+        double[] tile = tileRow[j / TILE_SIZE];
+        if (tile == null) {
+            if (value == defaultValue)
+                return;
+            tile = tileRow[j / TILE_SIZE] = new double[TILE_SIZE * TILE_SIZE];
+            Arrays.fill(tile, defaultValue);
+        }
+        tile[(i % TILE_SIZE) * TILE_SIZE + j % TILE_SIZE] = value;
+    }
+
+    /**
+     * Sets cell [i][j] back to the default value. A tile that was never allocated is left as it is.
+     *
+     * @param i the row of the cell
+     * @param j the column of the cell
+     */
+    @Override
+    public void clear(int i, int j) {
+        double[] tile = tiles[i / TILE_SIZE][j / TILE_SIZE];
+        if (tile != null)
+            tile[(i % TILE_SIZE) * TILE_SIZE + j % TILE_SIZE] = defaultValue;
+    }
+
+    /**
+     * Sets every cell in row 'i' and column 'i' back to the default value.
+     *
+     * @param i the row and column to be cleared
+     */
+    @Override
+    public void clear(int i) {
+        int r = (i % TILE_SIZE) * TILE_SIZE;
+        for (double[] tile : tiles[i / TILE_SIZE])
+            if (tile != null)
+                Arrays.fill(tile, r, r + TILE_SIZE, defaultValue);
+        for (double[][] tileRow : tiles) {
+            double[] tile = tileRow[i / TILE_SIZE];
+            if (tile != null)
+                for (int c = i % TILE_SIZE; c < tile.length; c += TILE_SIZE)
+                    tile[c] = defaultValue;
+        }
+    }
+
+    /**
+     * Copies the first 'n' rows and columns of the matrix into a new array.
+     *
+     * @param n the amount of rows and columns to be copied
+     * @return a new n by n array with the values of the matrix
+     */
+    @Override
+    public double[][] toArray(int n) {
+        double[][] array = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            double[][] tileRow = tiles[i / TILE_SIZE];
+            int r = (i % TILE_SIZE) * TILE_SIZE;
+            for (int b = 0; b * TILE_SIZE < n; b++) {
+                int length = Math.min(TILE_SIZE, n - b * TILE_SIZE);
+                if (tileRow[b] == null)
+                    Arrays.fill(array[i], b * TILE_SIZE, b * TILE_SIZE + length, defaultValue);
+                else
+                    System.arraycopy(tileRow[b], r, array[i], b * TILE_SIZE, length);
+            }
+        }
+        return array;
+    }
+}
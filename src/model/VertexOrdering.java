@@ -0,0 +1,28 @@
+package model;
+
+/**
+ * The ways in which {@link CompressedSparseRowGraph#reorder(VertexOrdering)} can renumber the vertices of a snapshot
+ * so that vertices which are visited together are stored close to each other.
+ *
+ * @author AED Class # 003 // 2019
+ * @version 1.0 - 10/2019
+ */
+public enum VertexOrdering {
+
+    /**
+     * The order in which a breadth-first search visits the vertices, starting from the lowest id not yet visited.
+     */
+    BFS,
+
+    /**
+     * The reverse Cuthill-McKee order: a breadth-first search that starts each component from a vertex of minimum
+     * degree and visits the neighbors of each vertex by increasing degree, reversed at the end. It keeps the edges
+     * close to the diagonal of the weight matrix.
+     */
+    REVERSE_CUTHILL_MCKEE,
+
+    /**
+     * Descending order of degree, so that the most connected vertices come first. Ties keep the current order.
+     */
+    DEGREE
+}
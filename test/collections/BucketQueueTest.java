@@ -0,0 +1,52 @@
+package collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BucketQueueTest {
+
+    private BucketQueue queue;
+
+    void setStage1() {
+        queue = new BucketQueue(10, 5);
+        queue.offer(3, 4);
+        queue.offer(5, 0);
+        queue.offer(8, 5);
+        queue.offer(1, 4);
+    }
+
+    @Test
+    void offer() {
+        setStage1();
+        assertEquals(4, queue.size());
+        assertTrue(queue.contains(8));
+        assertFalse(queue.contains(0));
+
+        assertFalse(queue.offer(1, 5));
+        assertEquals(4, queue.priority(1));
+        assertTrue(queue.offer(8, 2));
+        assertEquals(2, queue.priority(8));
+        assertEquals(4, queue.size());
+        assertThrows(IllegalArgumentException.class, () -> new BucketQueue(10, -1));
+    }
+
+    @Test
+    void poll() {
+        setStage1();
+        assertEquals(5, queue.poll());
+        queue.offer(0, 5);
+        queue.offer(8, 1);
+        assertEquals(8, queue.poll());
+        int first = queue.poll();
+        assertTrue(first == 1 || first == 3);
+        assertEquals(4 - first, queue.poll());
+        queue.offer(8, 9);
+        assertEquals(0, queue.poll());
+        assertEquals(8, queue.poll());
+        assertTrue(queue.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> queue.poll());
+    }
+}
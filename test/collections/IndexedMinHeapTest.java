@@ -0,0 +1,71 @@
+package collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedMinHeapTest {
+
+    private IndexedMinHeap heap;
+
+    void setStage1() {
+        heap = new IndexedMinHeap(10);
+        heap.offer(3, 7);
+        heap.offer(5, 2);
+        heap.offer(8, 9);
+        heap.offer(1, 4);
+    }
+
+    @Test
+    void offer() {
+        setStage1();
+        assertEquals(4, heap.size());
+        assertTrue(heap.contains(8));
+        assertFalse(heap.contains(0));
+        assertEquals(5, heap.peek());
+
+        assertFalse(heap.offer(1, 6));
+        assertEquals(4, heap.priority(1));
+        assertTrue(heap.offer(8, 1));
+        assertEquals(8, heap.peek());
+        assertEquals(4, heap.size());
+    }
+
+    @Test
+    void poll() {
+        setStage1();
+        assertEquals(5, heap.poll());
+        assertEquals(1, heap.poll());
+        assertEquals(3, heap.poll());
+        assertEquals(8, heap.poll());
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(5));
+        assertThrows(NoSuchElementException.class, () -> heap.poll());
+
+        heap = new IndexedMinHeap(1000);
+        Random random = new Random(11);
+        for (int i = 0; i < 1000; i++)
+            heap.offer(i, random.nextInt(10000));
+        for (int i = 0; i < 1000; i += 3)
+            heap.offer(i, heap.priority(i) - 500);
+        double last = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty()) {
+            int key = heap.peek();
+            assertTrue(heap.priority(key) >= last);
+            last = heap.priority(heap.poll());
+        }
+    }
+
+    @Test
+    void clear() {
+        setStage1();
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(3));
+        assertTrue(heap.offer(3, 1));
+        assertEquals(3, heap.peek());
+    }
+}
@@ -0,0 +1,54 @@
+package collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolTableTest {
+
+    private SymbolTable table;
+
+    void setStage1() {
+        table = new SymbolTable();
+        for (int i = 0; i < 1000; i++)
+            table.intern("person" + i);
+    }
+
+    @Test
+    void intern() {
+        setStage1();
+        assertEquals(1000, table.size());
+        assertEquals(0, table.intern("person0"));
+        assertEquals(999, table.intern("person999"));
+        assertEquals(1000, table.intern("newPerson"));
+        assertEquals(1001, table.size());
+        assertEquals("person500", table.label(500));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.label(1001));
+    }
+
+    @Test
+    void internBytes() {
+        setStage1();
+        byte[] line = "Alice person42 Bob".getBytes(StandardCharsets.UTF_8);
+        assertEquals(42, table.intern(line, 6, 14));
+        assertEquals(-1, table.find(line, 0, 5));
+        assertEquals(1000, table.intern(line, 0, 5));
+        assertEquals(1000, table.find("Alice"));
+        assertEquals("Bob", table.label(table.intern(line, 15, 18)));
+
+        byte[] accented = "Jos\u00e9".getBytes(StandardCharsets.UTF_8);
+        assertEquals(table.intern("Jos\u00e9"), table.intern(accented, 0, accented.length));
+    }
+
+    @Test
+    void clear() {
+        setStage1();
+        table.clear();
+        assertEquals(0, table.size());
+        assertEquals(-1, table.find("person0"));
+        assertEquals(0, table.intern("person7"));
+        assertEquals("person7", table.label(0));
+    }
+}
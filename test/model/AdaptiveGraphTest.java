@@ -0,0 +1,177 @@
+package model;
+
+import exceptions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveGraphTest {
+
+    private AdaptiveGraph<Integer> g;
+
+    void setStage1() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdaptiveGraph<>(false, true);
+        for (int i = 0; i < 100; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 99; i++)
+            g.addEdge(i, i + 1, i);
+    }
+
+    void setStage2() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage1();
+        for (int i = 0; i < 100; i++)
+            for (int j = i + 2; j < 100; j += 3)
+                g.addEdge(i, j, i + j);
+    }
+
+    @Test
+    void staysSparse() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage1();
+        assertFalse(g.isDense());
+        assertEquals(198.0 / 10000, g.density());
+        assertEquals(7, g.weight(g.getIndex(7), g.getIndex(8)));
+
+        g.addEdge(7, 8, 70);
+        assertEquals(70, g.weight(g.getIndex(8), g.getIndex(7)));
+        assertEquals(2, g.vertexAdjacent(8).size());
+    }
+
+    @Test
+    void migrates() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage2();
+        assertTrue(g.isDense());
+        assertEquals(100, g.getVertexSize());
+        assertTrue(g.areConnected(10, 12));
+        assertTrue(g.areConnected(12, 10));
+        assertEquals(22, g.weight(g.getIndex(12), g.getIndex(10)));
+        assertEquals(50, g.weight(g.getIndex(50), g.getIndex(51)));
+        assertEquals(Double.MAX_VALUE, g.weight(g.getIndex(10), g.getIndex(13)));
+
+        for (int i = 0; i < 100; i++)
+            for (int j = i + 2; j < 100; j += 3)
+                g.removeEdge(i, j);
+        assertFalse(g.isDense());
+        assertFalse(g.areConnected(10, 12));
+        assertEquals(50, g.weight(g.getIndex(50), g.getIndex(51)));
+        assertEquals(1, g.vertexAdjacent(0).size());
+    }
+
+    @Test
+    void edgeViews() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage1();
+        Collection<Edge> edges = g.getEdgesArray();
+        Map<Integer, List<Map<Integer, Double>>> byVertex = g.getEdges();
+        assertEquals(99, edges.size());
+        assertEquals(2, byVertex.get(50).size());
+
+        for (int i = 0; i < 100; i++)
+            for (int j = i + 2; j < 100; j += 3)
+                g.addEdge(i, j, i + j);
+        assertTrue(g.isDense());
+        assertEquals(1749, edges.size());
+        assertEquals(1749, edges.parallelStream().count());
+        assertEquals(35, byVertex.get(50).size());
+        assertTrue(byVertex.containsKey(99));
+        assertEquals(100, byVertex.entrySet().size());
+    }
+
+    @Test
+    void removalsKeepDensity() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        for (boolean directed : new boolean[]{true, false}) {
+            g = new AdaptiveGraph<>(directed, true);
+            for (int i = 0; i < 100; i++)
+                g.addVertex(i);
+            for (int i = 0; i < 100; i++) {
+                g.addEdge(i, i, 1);
+                for (int j = i + 1; j < 100; j += 2)
+                    g.addEdge(j, i, i + j);
+            }
+            assertTrue(g.isDense());
+            g.removeVertex(40);
+            g.removeVertex(3);
+            assertEquals(storedArcs(), g.density() * 98 * 98, 1e-6);
+            g.removeEdges(new int[]{g.getIndex(10), g.getIndex(10), g.getIndex(12)},
+                    new int[]{g.getIndex(10), g.getIndex(11), g.getIndex(13)});
+            assertEquals(storedArcs(), g.density() * 98 * 98, 1e-6);
+            for (int i = 50; i < 90; i++)
+                g.removeVertex(i);
+            assertEquals(storedArcs(), g.density() * 58 * 58, 1e-6);
+            for (int i = 0; i < 50; i++)
+                for (int j = i + 1; j < 50; j += 2)
+                    if (i != 3 && j != 3 && i != 40 && j != 40)
+                        g.removeEdge(j, i);
+            for (int i = 90; i < 98; i++)
+                g.removeVertex(i);
+            assertFalse(g.isDense());
+            g.removeVertex(0);
+            g.removeEdges(new int[]{g.getIndex(99)}, new int[]{g.getIndex(99)});
+            assertEquals(storedArcs(), g.density() * 49 * 49, 1e-6);
+        }
+    }
+
+    /**
+     * Counts the edges stored in every row of the current representation.
+     */
+    private long storedArcs() {
+        long[] count = new long[1];
+        for (int index : g.getVertices().values())
+            g.forEachNeighbor(index, (target, weight) -> count[0]++);
+        return count[0];
+    }
+
+    @Test
+    void removeVertex() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage2();
+        for (int i = 99; i >= 30; i--)
+            g.removeVertex(i);
+        assertEquals(30, g.getVertices().size());
+        assertTrue(g.getVertexSize() < 60);
+        assertTrue(g.isDense());
+        assertEquals(0, g.weight(g.getIndex(20), g.getIndex(20)));
+        assertEquals(42, g.weight(g.getIndex(20), g.getIndex(22)));
+        assertThrows(ElementNotFoundException.class, () -> g.getIndex(30));
+    }
+
+    @Test
+    void thresholds() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveGraph<Integer>(true, true, 0.5, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveGraph<Integer>(true, true, 0.1, 1.5));
+        assertFalse(new AdaptiveGraph<Integer>(true, false, 0, 1).isDense());
+    }
+
+    @Test
+    void presized() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        List<Integer> vertices = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+            vertices.add(i);
+        g = new AdaptiveGraph<>(true, false, 100, 5000);
+        assertTrue(g.isDense());
+        g.addVertices(vertices);
+        assertTrue(g.isDense());
+        for (int i = 0; i < 99; i++)
+            g.addEdge(i, i + 1);
+        assertTrue(g.isDense());
+        g.addVertex(100);
+        assertTrue(g.isDense());
+
+        g = new AdaptiveGraph<>(true, false, 100, 500);
+        assertFalse(g.isDense());
+        g.addVertices(vertices);
+        int[] from = new int[5000];
+        int[] to = new int[5000];
+        for (int e = 0; e < 5000; e++) {
+            from[e] = e / 50;
+            to[e] = (e / 50 + e % 50) % 100;
+        }
+        g.addEdges(from, to);
+        assertTrue(g.isDense());
+        assertEquals(0.5, g.density());
+        assertTrue(g.areConnected(99, 48));
+        assertFalse(g.areConnected(99, 49));
+    }
+}
@@ -3,8 +3,7 @@ package model;
 import exceptions.*;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -172,6 +171,24 @@ class AdjacencyListGraphTest {
         assertEquals(0,g.vertexAdjacent(newVertex).size());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void forEachNeighbor() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage10();
+        g.addEdge(u, s, 4);
+        List<Integer> neighbors = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        g.forEachNeighbor(g.getIndex(u), (index, weight) -> {
+            neighbors.add(index);
+            weights.add(weight);
+        });
+        assertEquals(Arrays.asList(1, 2), neighbors);
+        assertEquals(Arrays.asList(0.0, 4.0), weights);
+        assertEquals(s, g.getVertex(neighbors.get(1)));
+
+        assertThrows(ElementNotFoundException.class, () -> g.getVertex(5));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void areConnected() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
@@ -215,6 +232,53 @@ class AdjacencyListGraphTest {
         assertEquals(-3, weightMatrix[4][3]);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void weight() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage11();
+        assertEquals(-5, g.weight(1, 2));
+        assertEquals(0, g.weight(3, 3));
+        assertEquals(Double.MAX_VALUE, g.weight(0, 4));
+
+        double[][] weightMatrix = g.weightMatrix();
+        weightMatrix[1][2] = 0;
+        assertEquals(-5, g.weight(1, 2));
+        g.addEdge(u, vertex5, 4);
+        assertNotSame(weightMatrix, g.weightMatrix());
+        assertEquals(Double.MAX_VALUE, weightMatrix[0][4]);
+        assertEquals(4, g.weightMatrix()[4][0]);
+        assertEquals(4, g.weight(4, 0));
+
+        g.removeEdge(v, s);
+        assertEquals(Double.MAX_VALUE, g.weightMatrix()[1][2]);
+        assertEquals(Double.MAX_VALUE, g.weight(2, 1));
+    }
+
+    @Test
+    void sparseWeights() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyListGraph(true, true);
+        for (int i = 0; i < 20; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 20; i++)
+            for (int j = 0; j < 20; j += 4)
+                g.addEdge(i, j, i + j);
+        double[][] weightMatrix = g.weightMatrix();
+        assertEquals(27, weightMatrix[11][16]);
+
+        //Each removal keeps the remaining weights right, whether they are read from the cached matrix or the rows.
+        for (int i = 0; i < 20; i++) {
+            g.removeEdge(i, 0);
+            g.removeEdge(i, 4);
+            g.removeEdge(i, 8);
+            g.removeEdge(i, 12);
+            assertEquals(Double.MAX_VALUE, g.weight(i, i == 4 ? 0 : 4));
+            assertEquals(i == 16 ? 0 : i + 16, g.weight(i, 16));
+        }
+        assertEquals(Double.MAX_VALUE, g.weightMatrix()[3][12]);
+        assertEquals(19, g.weightMatrix()[3][16]);
+        assertEquals(27, g.weight(11, 16));
+    }
+
     @Test
     void isDirected() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
         setStage8();
@@ -246,6 +310,52 @@ class AdjacencyListGraphTest {
         assertEquals(toCompare, g.getVertices());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void setWeight() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage11();
+        assertEquals(-5, g.weightMatrix()[1][2]);
+        assertTrue(g.setWeight(u, v, 9));
+        assertEquals(9, g.weight(0, 1));
+        assertEquals(9, g.weightMatrix()[1][0]);
+        assertFalse(g.setWeight(u, s, 1));
+
+        assertFalse(g.mergeEdgeMin(v, s, -2));
+        assertTrue(g.mergeEdgeMin(s, v, -8));
+        assertEquals(-8, g.weightMatrix()[1][2]);
+        assertTrue(g.mergeEdgeMin(u, s, 4));
+        assertTrue(g.areConnected(s, u));
+        assertEquals(4, g.weight(2, 0));
+        assertEquals(1, g.vertexAdjacent(u).stream().filter(s::equals).count());
+
+        setStage8();
+        assertThrows(WrongEdgeTypeException.class, () -> g.setWeight(u, v, 1));
+        assertThrows(WrongEdgeTypeException.class, () -> g.mergeEdgeMin(u, v, 1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void edgeViews() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyListGraph(false, true);
+        for (int i = 0; i < 300; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 299; i++)
+            g.addEdge(i, i + 1, i);
+        Collection<Edge> edges = g.getEdgesArray();
+        Map<Object, List<Map<Object, Double>>> byVertex = g.getEdges();
+        assertEquals(299, edges.size());
+        assertEquals(299, edges.parallelStream().count());
+        assertEquals(299 * 298 / 2.0, edges.parallelStream().mapToDouble(e -> e.weight).sum());
+        assertEquals(2, byVertex.get(5).size());
+        assertEquals(5.0, byVertex.get(5).get(1).get(6));
+
+        g.removeEdge(5, 6);
+        assertEquals(298, edges.size());
+        assertEquals(1, byVertex.get(5).size());
+        assertThrows(IndexOutOfBoundsException.class, () -> byVertex.get(5).get(1));
+        assertNull(byVertex.get(300));
+    }
+
     @Test
     void getEdges() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
         setStage8();
@@ -262,4 +372,126 @@ class AdjacencyListGraphTest {
         assertEquals(g.getIndex(vertex4), 3);
         assertEquals(g.getIndex(vertex5), 4);
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEdgesArray() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage11();
+        assertEquals(4, g.getEdgesArray().size());
+
+        setStage12();
+        g.addEdge(v, u);
+        assertEquals(5, g.getEdgesArray().size());
+        assertTrue(g.removeEdge(u, v));
+        assertTrue(g.areConnected(v, u));
+        assertEquals(4, g.getEdgesArray().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addEdges() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyListGraph(false, true, 5);
+        g.addVertices(Arrays.asList(u, v, s, vertex4, vertex5));
+        assertEquals(5, g.getVertexSize());
+        g.addEdges(new int[]{0, 1, 2, 3}, new int[]{1, 2, 3, 4}, new double[]{4, 5, 6, 7});
+        assertTrue(g.areConnected(v, u));
+        assertEquals(6, g.weight(3, 2));
+        assertEquals(4, g.getEdgesArray().size());
+
+        assertThrows(ElementNotFoundException.class, () -> g.addEdges(new int[]{0, 1}, new int[]{4, 5}, new double[]{1, 1}));
+        assertFalse(g.areConnected(u, vertex5));
+        assertThrows(WrongEdgeTypeException.class, () -> g.addEdges(new int[]{0}, new int[]{4}));
+        assertThrows(ElementAlreadyPresentException.class, () -> g.addVertices(Collections.singletonList(s)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void hubVertex() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyListGraph(false, true);
+        for (int i = 0; i < 200; i++)
+            g.addVertex(i);
+        for (int i = 1; i < 200; i++)
+            g.addEdge(0, i, i);
+        g.addEdge(0, 150, 7);
+
+        assertTrue(g.areConnected(0, 199));
+        assertTrue(g.areConnected(150, 0));
+        assertFalse(g.areConnected(1, 2));
+        assertEquals(7, g.weight(0, 150));
+        assertEquals(99, g.weight(0, 99));
+
+        assertTrue(g.removeEdge(0, 150));
+        assertFalse(g.areConnected(0, 150));
+        assertEquals(151, g.weight(0, 151));
+        g.removeVertex(99);
+        assertEquals(99, g.getIndex(199));
+        assertEquals(199, g.weight(0, 99));
+        assertEquals(198, g.weight(0, 198));
+        assertEquals(197, g.vertexAdjacent(0).size());
+        assertThrows(ElementNotFoundException.class, () -> g.getVertex(199));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void removeVertexCompacts() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyListGraph(true, true);
+        g.addVertex(u);
+        g.addVertex(v);
+        g.addVertex(s);
+        g.addVertex(vertex4);
+        g.addEdge(u, v, 1);
+        g.addEdge(v, vertex4, 2);
+        g.addEdge(vertex4, s, 3);
+        g.addEdge(vertex4, vertex4, 4);
+        g.addEdge(s, v, 5);
+        g.addEdge(vertex4, u, 6);
+
+        g.removeVertex(v);
+        assertEquals(3, g.getVertexSize());
+        assertEquals(1, g.getIndex(vertex4));
+        assertEquals(vertex4, g.getVertex(1));
+        assertEquals(2, g.getIndex(s));
+        assertTrue(g.areConnected(vertex4, s));
+        assertTrue(g.areConnected(vertex4, vertex4));
+        assertTrue(g.areConnected(vertex4, u));
+        assertFalse(g.areConnected(s, vertex4));
+        assertEquals(0, g.vertexAdjacent(u).size());
+        assertEquals(0, g.vertexAdjacent(s).size());
+        assertEquals(3, g.weight(1, 2));
+        assertEquals(6, g.weight(1, 0));
+        assertEquals(3, g.getEdgesArray().size());
+
+        g.removeVertex(u);
+        assertEquals(0, g.getIndex(s));
+        assertEquals(1, g.getIndex(vertex4));
+        assertTrue(g.areConnected(vertex4, s));
+        g.removeEdge(vertex4, s);
+        g.removeVertex(vertex4);
+        assertEquals(0, g.getIndex(s));
+        assertEquals(1, g.getVertexSize());
+        assertEquals(0, g.getEdgesArray().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void removeEdges() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyListGraph(true, true);
+        g.addVertices(Arrays.asList(u, v, s, vertex4));
+        g.addEdges(new int[]{0, 0, 0, 1, 0}, new int[]{1, 2, 3, 2, 1}, new double[]{1, 2, 3, 4, 5});
+        g.weightMatrix();
+
+        assertTrue(g.removeEdges(new int[]{0, 1, 3}, new int[]{1, 2, 0}));
+        assertFalse(g.areConnected(u, v));
+        assertFalse(g.areConnected(v, s));
+        assertTrue(g.areConnected(u, vertex4));
+        assertEquals(Double.MAX_VALUE, g.weightMatrix()[0][1]);
+        assertEquals(2, g.weightMatrix()[0][2]);
+        assertEquals(2, g.getEdgesArray().size());
+
+        g.removeVertex(s);
+        assertEquals(2, g.getIndex(vertex4));
+        assertTrue(g.areConnected(u, vertex4));
+        assertEquals(1, g.getEdgesArray().size());
+        assertThrows(ElementNotFoundException.class, () -> g.removeEdges(new int[]{0}, new int[]{3}));
+    }
+}
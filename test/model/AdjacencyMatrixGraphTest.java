@@ -3,6 +3,9 @@ package model;
 import exceptions.*;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -171,6 +174,24 @@ class AdjacencyMatrixGraphTest {
         assertEquals(0, g.vertexAdjacent(newVertex).size());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void forEachNeighbor() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage4();
+        g.addEdge(u, s, 4);
+        List<Integer> neighbors = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        g.forEachNeighbor(g.getIndex(u), (index, weight) -> {
+            neighbors.add(index);
+            weights.add(weight);
+        });
+        assertEquals(Arrays.asList(1, 2), neighbors);
+        assertEquals(Arrays.asList(0.0, 4.0), weights);
+        assertEquals(s, g.getVertex(neighbors.get(1)));
+
+        assertThrows(ElementNotFoundException.class, () -> g.getVertex(5));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void areConnected() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
@@ -213,6 +234,225 @@ class AdjacencyMatrixGraphTest {
         assertEquals(-3, g.weightMatrix()[4][3]);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void unweightedGrowth() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyMatrixGraph(true, false, 2);
+        for (int i = 0; i < 150; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 149; i++)
+            g.addEdge(i, i + 1);
+        g.addEdge(3, 130);
+
+        assertTrue(g.areConnected(3, 130));
+        assertFalse(g.areConnected(130, 3));
+        assertEquals(Arrays.asList(4, 130), g.vertexAdjacent(3));
+        assertEquals(0, g.weight(70, 70));
+        assertEquals(Double.MAX_VALUE, g.weight(70, 71));
+        assertEquals(Double.MAX_VALUE, g.weightMatrix()[3][130]);
+
+        g.removeVertex(130);
+        assertEquals(Collections.singletonList(4), g.vertexAdjacent(3));
+        assertEquals(0, g.vertexAdjacent(129).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void weightedGrowth() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyMatrixGraph(false, true, 2);
+        for (int i = 0; i < 200; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 199; i++)
+            g.addEdge(i, i + 1, i);
+
+        assertEquals(63, g.weight(63, 64));
+        assertEquals(63, g.weight(64, 63));
+        assertEquals(150, g.weight(151, 150));
+        assertEquals(0, g.weight(199, 199));
+        assertEquals(Double.MAX_VALUE, g.weight(0, 199));
+
+        double[][] weightMatrix = g.weightMatrix();
+        assertEquals(200, weightMatrix.length);
+        assertEquals(127, weightMatrix[127][128]);
+        assertEquals(Double.MAX_VALUE, weightMatrix[127][129]);
+
+        g.removeVertex(128);
+        assertEquals(Double.MAX_VALUE, g.weight(127, 128));
+        assertEquals(Double.MAX_VALUE, g.weight(129, 128));
+        assertEquals(126, g.weight(127, 126));
+    }
+
+    @Test
+    void mappedWeights() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, IOException {
+        Path file = Files.createTempFile("weights", ".bin");
+        file.toFile().deleteOnExit();
+        g = new AdjacencyMatrixGraph(true, file, 2);
+        for (int i = 0; i < 100; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 99; i++)
+            g.addEdge(i + 1, i, i);
+        g.addEdge(3, 70, 4.5);
+
+        assertEquals(63, g.weight(64, 63));
+        assertEquals(Double.MAX_VALUE, g.weight(63, 64));
+        assertEquals(0, g.weight(99, 99));
+        assertEquals(4.5, g.weight(3, 70));
+        g.removeVertex(50);
+        assertEquals(Double.MAX_VALUE, g.weight(51, 50));
+
+        g = new AdjacencyMatrixGraph(true, file, 2);
+        for (int i = 0; i < 100; i++)
+            g.addVertex(i);
+        assertTrue(g.areConnected(64, 63));
+        assertFalse(g.areConnected(63, 64));
+        assertTrue(g.areConnected(3, 70));
+        assertFalse(g.areConnected(51, 50));
+        assertEquals(4.5, g.weight(3, 70));
+        assertEquals(98, g.weight(99, 98));
+        assertEquals(98, g.getEdgesArray().size());
+    }
+
+    @Test
+    void mappedUndirected() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, IOException {
+        Path file = Files.createTempFile("weights", ".bin");
+        file.toFile().deleteOnExit();
+        g = new AdjacencyMatrixGraph(false, file, 2);
+        for (int i = 0; i < 10; i++)
+            g.addVertex(i);
+        g.addEdge(3, 0, 7);
+        g.addEdge(2, 8, 1.5);
+        assertEquals(7, g.weight(0, 3));
+        assertEquals(7, g.weight(3, 0));
+        assertEquals(7, GraphAlgorithms.shortestPaths(g, 3).distance(0));
+        g.setWeight(8, 2, 2.5);
+        assertEquals(2.5, g.weight(2, 8));
+        g.removeEdge(0, 3);
+        assertEquals(Double.MAX_VALUE, g.weight(3, 0));
+        g.addEdge(3, 0, 6);
+
+        g = new AdjacencyMatrixGraph(false, file, 2);
+        for (int i = 0; i < 10; i++)
+            g.addVertex(i);
+        assertTrue(g.areConnected(0, 3));
+        assertTrue(g.areConnected(3, 0));
+        assertEquals(6, g.weight(0, 3));
+        assertEquals(2.5, g.weight(8, 2));
+        assertEquals(2, g.getEdgesArray().size());
+
+        g.removeVertex(1);
+        ((AdjacencyMatrixGraph) g).compact();
+        assertEquals(6, g.weight(g.getIndex(3), g.getIndex(0)));
+        assertEquals(6, g.weight(g.getIndex(0), g.getIndex(3)));
+        assertEquals(2.5, g.weight(g.getIndex(2), g.getIndex(8)));
+        assertEquals(2.5, g.weight(g.getIndex(8), g.getIndex(2)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void edgeViews() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyMatrixGraph(true, false, 4);
+        for (int i = 0; i < 200; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 200; i++)
+            g.addEdge(i, (i * 7) % 200);
+        Collection<Edge> edges = g.getEdgesArray();
+        assertEquals(200, edges.parallelStream().count());
+        assertTrue(edges.stream().allMatch(e -> (Integer) e.v == ((Integer) e.u * 7) % 200));
+
+        g.removeVertex(7);
+        assertEquals(198, edges.size());
+        assertFalse(g.getEdges().containsKey(7));
+        assertEquals(0, ((Map<Object, List<Map<Object, Double>>>) g.getEdges()).get(1).size());
+        assertEquals(Double.MAX_VALUE, ((Map<Object, List<Map<Object, Double>>>) g.getEdges()).get(2).get(0).get(14));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void setWeight() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage3();
+        assertTrue(g.setWeight(u, v, 9));
+        assertEquals(9, g.weight(0, 1));
+        assertEquals(Double.MAX_VALUE, g.weight(1, 0));
+        assertFalse(g.setWeight(v, u, 9));
+        assertEquals(9.0, ((Map<Object, List<Map<Object, Double>>>) g.getEdges()).get(u).get(0).get(v));
+
+        assertFalse(g.mergeEdgeMin(v, s, 0));
+        assertTrue(g.mergeEdgeMin(v, s, -4));
+        assertEquals(-4, g.weight(1, 2));
+        assertEquals(1, ((Map<Object, List<Map<Object, Double>>>) g.getEdges()).get(v).size());
+        assertTrue(g.mergeEdgeMin(s, v, 6));
+        assertEquals(6, g.weight(2, 1));
+        assertEquals(5, g.getEdgesArray().size());
+
+        setStage5();
+        assertTrue(g.mergeEdgeMin(vertex4, s, 2));
+        assertEquals(2, g.weightMatrix()[2][3]);
+        assertEquals(2.0, ((Map<Object, List<Map<Object, Double>>>) g.getEdges()).get(s).get(1).get(vertex4));
+
+        setStage2();
+        assertThrows(WrongEdgeTypeException.class, () -> g.setWeight(u, v, 1));
+        assertThrows(WrongEdgeTypeException.class, () -> g.mergeEdgeMin(u, v, 1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void compact() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyMatrixGraph(false, true, 4);
+        for (int i = 0; i < 10; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 9; i++)
+            g.addEdge(i, i + 1, i);
+        g.removeVertex(3);
+        g.removeVertex(7);
+        assertEquals(10, g.getVertexSize());
+        g.addVertex(100);
+        assertEquals(7, g.getIndex(100));
+        g.addEdge(100, 0, 50);
+
+        ((AdjacencyMatrixGraph) g).compact();
+        assertEquals(9, g.getVertexSize());
+        assertEquals(3, g.getIndex(4));
+        assertEquals(6, g.getIndex(100));
+        assertEquals(4, g.weight(g.getIndex(4), g.getIndex(5)));
+        assertEquals(50, g.weight(g.getIndex(0), g.getIndex(100)));
+        assertEquals(0, g.weight(g.getIndex(9), g.getIndex(9)));
+        assertEquals(Double.MAX_VALUE, g.weight(g.getIndex(2), g.getIndex(4)));
+        assertEquals(6, g.getEdgesArray().size());
+
+        g.addVertex(3);
+        assertEquals(9, g.getIndex(3));
+        assertEquals(0, g.vertexAdjacent(3).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void compactMapped() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, IOException {
+        Path file = Files.createTempFile("weights", ".bin");
+        file.toFile().deleteOnExit();
+        g = new AdjacencyMatrixGraph(true, file, 2);
+        for (int i = 0; i < 20; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 19; i++)
+            g.addEdge(i + 1, i, i);
+        g.addEdge(2, 18, 0.5);
+        g.removeVertex(5);
+        g.removeVertex(10);
+
+        ((AdjacencyMatrixGraph) g).compact();
+        assertEquals(18, g.getVertexSize());
+        assertEquals(11, g.weight(g.getIndex(12), g.getIndex(11)));
+        assertEquals(Double.MAX_VALUE, g.weight(g.getIndex(11), g.getIndex(12)));
+        assertEquals(0.5, g.weight(g.getIndex(2), g.getIndex(18)));
+        assertEquals(0, g.weight(g.getIndex(19), g.getIndex(19)));
+        assertEquals(16, g.getEdgesArray().size());
+
+        g.removeVertex(18);
+        assertEquals(1, g.vertexAdjacent(2).size());
+        assertEquals(13, g.getEdgesArray().size());
+        g.addVertex(18);
+        assertEquals(Double.MAX_VALUE, g.weight(g.getIndex(19), g.getIndex(18)));
+    }
+
     @Test
     void isDirected() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
         setStage2();
@@ -260,4 +500,107 @@ class AdjacencyMatrixGraphTest {
         assertEquals(g.getIndex(vertex4), 3);
         assertEquals(g.getIndex(vertex5), 4);
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addEdges() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyMatrixGraph(false, true, 2);
+        g.addVertices(Arrays.asList(u, v, s, vertex4, vertex5));
+        assertEquals(5, g.getVertexSize());
+        g.addEdges(new int[]{0, 1, 2, 3}, new int[]{1, 2, 3, 4}, new double[]{4, 5, 6, 7});
+        assertTrue(g.areConnected(v, u));
+        assertEquals(6, g.weight(3, 2));
+        assertEquals(4, g.getEdgesArray().size());
+
+        assertThrows(ElementNotFoundException.class, () -> g.addEdges(new int[]{0, 1}, new int[]{4, 5}, new double[]{1, 1}));
+        assertFalse(g.areConnected(u, vertex5));
+        assertThrows(WrongEdgeTypeException.class, () -> g.addEdges(new int[]{0}, new int[]{4}));
+        assertThrows(ElementAlreadyPresentException.class, () -> g.addVertices(Collections.singletonList(s)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void directedRemovals() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyMatrixGraph(true, true, 4);
+        g.addVertices(Arrays.asList(u, v, s, vertex4, vertex5));
+        g.addEdge(u, v, 1);
+        g.addEdge(v, s, 2);
+        g.addEdge(s, u, 3);
+        g.addEdge(vertex4, v, 4);
+        g.addEdge(v, v, 5);
+
+        assertTrue(g.removeEdge(u, v));
+        assertFalse(g.removeEdge(u, v));
+        assertEquals(0, g.vertexAdjacent(u).size());
+        assertEquals(2, ((Map<Object, List<Map<Object, Double>>>) g.getEdges()).get(v).size());
+        assertEquals(1, ((Map<Object, List<Map<Object, Double>>>) g.getEdges()).get(s).size());
+
+        g.removeVertex(v);
+        assertEquals(0, ((Map<Object, List<Map<Object, Double>>>) g.getEdges()).get(vertex4).size());
+        assertFalse(g.areConnected(vertex4, s));
+        assertEquals(1, g.getEdgesArray().size());
+        assertTrue(g.areConnected(s, u));
+
+        g.addVertex(v);
+        assertEquals(1, g.getIndex(v));
+        assertEquals(0, g.vertexAdjacent(v).size());
+        g.addEdge(u, v, 6);
+        g.removeVertex(u);
+        assertEquals(0, g.vertexAdjacent(s).size());
+        assertEquals(0, g.getEdgesArray().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void removeEdges() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        g = new AdjacencyMatrixGraph(false, false, 5);
+        g.addVertices(Arrays.asList(u, v, s, vertex4, vertex5));
+        g.addEdges(new int[]{0, 0, 0, 1, 2}, new int[]{1, 2, 3, 2, 4});
+
+        assertTrue(g.removeEdges(new int[]{0, 2, 3}, new int[]{1, 0, 4}));
+        assertFalse(g.areConnected(v, u));
+        assertFalse(g.areConnected(u, s));
+        assertTrue(g.areConnected(vertex4, u));
+        assertEquals(1, ((Map<Object, List<Map<Object, Double>>>) g.getEdges()).get(u).size());
+        assertEquals(2, ((Map<Object, List<Map<Object, Double>>>) g.getEdges()).get(s).size());
+        assertEquals(3, g.getEdgesArray().size());
+
+        assertFalse(g.removeEdges(new int[]{0}, new int[]{4}));
+        assertThrows(ElementNotFoundException.class, () -> g.removeEdges(new int[]{0, 0}, new int[]{3, 7}));
+        assertTrue(g.areConnected(u, vertex4));
+    }
+
+    @Test
+    void removeVertexCells() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        for (boolean directed : new boolean[]{true, false}) {
+            g = new AdjacencyMatrixGraph(directed, true, 6);
+            g.addVertices(Arrays.asList(u, v, s, vertex4, vertex5));
+            g.addEdge(u, v, 1);
+            g.addEdge(v, s, 2);
+            g.addEdge(s, s, 3);
+            g.addEdge(s, vertex4, 4);
+            g.addEdge(vertex4, vertex5, 5);
+            g.addEdge(vertex5, u, 6);
+            g.addEdge(u, vertex4, 7);
+            double[][] before = g.weightMatrix();
+
+            g.removeVertex(s);
+            double[][] after = g.weightMatrix();
+            for (int i = 0; i < 5; i++)
+                for (int j = 0; j < 5; j++)
+                    if (i == 2 || j == 2)
+                        assertEquals(Double.MAX_VALUE, after[i][j]);
+                    else
+                        assertEquals(before[i][j], after[i][j]);
+
+            g.addVertex(s);
+            assertEquals(2, g.getIndex(s));
+            assertEquals(0, g.vertexAdjacent(s).size());
+            assertFalse(g.areConnected(v, s));
+            assertEquals(0.0, g.weight(2, 2));
+            assertEquals(Double.MAX_VALUE, g.weight(1, 2));
+            assertEquals(Double.MAX_VALUE, g.weight(2, 3));
+            assertEquals(4, g.getEdgesArray().size());
+        }
+    }
+}
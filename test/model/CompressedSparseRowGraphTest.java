@@ -0,0 +1,186 @@
+package model;
+
+import exceptions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedSparseRowGraphTest {
+
+    private IGraph source;
+    private CompressedSparseRowGraph g;
+    private Object u = "u";
+    private Object v = "v";
+    private Object s = "s";
+    private Object vertex4 = "vertex4";
+    private Object vertex5 = "vertex5";
+
+    @SuppressWarnings("unchecked")
+    void setStage1() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        source = new AdjacencyListGraph(true, true);
+        source.addVertex(u);
+        source.addVertex(v);
+        source.addVertex(s);
+        source.addVertex(vertex4);
+        source.addVertex(vertex5);
+        source.addEdge(u, v, 0);
+        source.addEdge(v, s, 5);
+        source.addEdge(s, vertex4, 7);
+        source.addEdge(vertex4, vertex5, 3);
+        source.addEdge(u, s, 2);
+        g = new CompressedSparseRowGraph(source);
+    }
+
+    @SuppressWarnings("unchecked")
+    void setStage2() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        source = new AdjacencyMatrixGraph(false, false, 5);
+        source.addVertex(u);
+        source.addVertex(v);
+        source.addVertex(s);
+        source.addVertex(vertex4);
+        source.addVertex(vertex5);
+        source.addEdge(u, v);
+        source.addEdge(v, s);
+        source.addEdge(s, vertex4);
+        source.removeVertex(v);
+        g = new CompressedSparseRowGraph(source);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshot() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage1();
+        assertEquals(5, g.getVertexSize());
+        assertEquals(5, g.getEdgeSize());
+        assertEquals(2, g.degree(0));
+        assertEquals(0, g.degree(4));
+        assertEquals(u, g.getVertex(0));
+        assertThrows(ElementNotFoundException.class, () -> g.getVertex(5));
+        assertThrows(ElementNotFoundException.class, () -> g.getVertex(-1));
+        assertEquals(2, g.getIndex(s));
+        assertTrue(g.areConnected(u, s));
+        assertFalse(g.areConnected(s, u));
+
+        int id = g.getIndex(s);
+        for (int e = g.edgeStart(id); e < g.edgeEnd(id); e++) {
+            assertEquals(3, g.edgeTarget(e));
+            assertEquals(7, g.edgeWeight(e));
+        }
+
+        source.addEdge(vertex5, u, 1);
+        assertFalse(g.areConnected(vertex5, u));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshotWithEmptySlots() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage2();
+        assertEquals(4, g.getVertexSize());
+        assertEquals(3, g.getIndex(vertex5));
+        assertTrue(g.areConnected(s, vertex4));
+        assertTrue(g.areConnected(vertex4, s));
+        assertEquals(0, g.vertexAdjacent(u).size());
+        List adjacent = g.vertexAdjacent(s);
+        assertEquals(1, adjacent.size());
+        assertEquals(vertex4, adjacent.get(0));
+
+        Object newVertex = "newVertex";
+        assertThrows(ElementNotFoundException.class, () -> g.vertexAdjacent(newVertex));
+        assertThrows(UnsupportedOperationException.class, () -> g.addVertex(newVertex));
+    }
+
+    @Test
+    void weightMatrix() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage1();
+        double[][] weightMatrix = g.weightMatrix();
+        for (int i = 0; i < g.getVertexSize(); i++)
+            assertEquals(0, weightMatrix[i][i]);
+        assertEquals(0, weightMatrix[0][1]);
+        assertEquals(2, weightMatrix[0][2]);
+        assertEquals(5, weightMatrix[1][2]);
+        assertEquals(Double.MAX_VALUE, weightMatrix[2][0]);
+        assertEquals(3, weightMatrix[3][4]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sortedRows() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, WrongGraphTypeException {
+        source = new AdjacencyListGraph(false, true);
+        for (int i = 0; i < 100; i++)
+            source.addVertex(i);
+        for (int i = 99; i > 0; i--)
+            source.addEdge(0, i, i);
+        source.addEdge(1, 2, 3);
+        source.addEdge(2, 3, 5);
+        source.addEdge(1, 3, 4);
+        source.addEdge(3, 4, 7);
+        source.addEdge(0, 50, 1);
+        g = new CompressedSparseRowGraph(source, true);
+
+        assertTrue(g.isSorted());
+        for (int e = g.edgeStart(0) + 1; e < g.edgeEnd(0); e++)
+            assertTrue(g.edgeTarget(e - 1) <= g.edgeTarget(e));
+        assertTrue(g.areConnected(0, 77));
+        assertTrue(g.areConnected(3, 1));
+        assertFalse(g.areConnected(1, 4));
+        assertEquals(1, g.weight(0, 50));
+        assertEquals(4, g.weight(3, 1));
+        assertEquals(99, g.weight(99, 0));
+
+        assertEquals(2, g.commonNeighbors(1, 3));
+        assertEquals(3, g.commonNeighbors(0, 3));
+        assertEquals(3.0 / 100, g.jaccard(0, 3));
+        assertEquals(5, g.countTriangles());
+
+        setStage1();
+        assertFalse(g.isSorted());
+        assertThrows(IllegalStateException.class, () -> g.commonNeighbors(0, 1));
+        assertThrows(WrongGraphTypeException.class, () -> g.countTriangles());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reorder() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        source = new AdjacencyListGraph(false, true);
+        int[] scrambled = {5, 2, 8, 0, 9, 3, 7, 1, 6, 4};
+        for (int label : scrambled)
+            source.addVertex(label);
+        for (int i = 0; i < 9; i++)
+            source.addEdge(i, i + 1, i);
+        g = new CompressedSparseRowGraph(source, true);
+        assertEquals(9, bandwidth(g));
+
+        CompressedSparseRowGraph r = g.reorder(VertexOrdering.REVERSE_CUTHILL_MCKEE);
+        assertEquals(1, bandwidth(r));
+        assertTrue(r.isSorted());
+        assertEquals(3, r.weight(r.getIndex(3), r.getIndex(4)));
+        assertEquals(18, r.getEdgeSize());
+        int[] permutation = r.permutation();
+        for (int id = 0; id < 10; id++)
+            assertEquals(g.getVertex(permutation[id]), r.getVertex(id));
+
+        r = g.reorder(VertexOrdering.BFS);
+        assertEquals(5, r.getVertex(0));
+        assertEquals(2, bandwidth(r));
+        assertEquals(0, r.getIndex(5));
+
+        r = g.reorder(VertexOrdering.DEGREE);
+        assertEquals(1, r.degree(8));
+        assertEquals(1, r.degree(9));
+        assertEquals(Double.MAX_VALUE, r.weight(r.getIndex(0), r.getIndex(9)));
+        assertEquals(0, g.permutation()[0]);
+    }
+
+    /**
+     * Gives the greatest distance between the ids of two adjacent vertices.
+     */
+    private int bandwidth(CompressedSparseRowGraph graph) {
+        int max = 0;
+        for (int id = 0; id < graph.getVertexSize(); id++)
+            for (int e = graph.edgeStart(id); e < graph.edgeEnd(id); e++)
+                max = Math.max(max, Math.abs(graph.edgeTarget(e) - id));
+        return max;
+    }
+}
@@ -0,0 +1,95 @@
+package model;
+
+import exceptions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdgeListTest {
+
+    private EdgeList edges;
+
+    void setStage1() {
+        edges = new EdgeList(2);
+        edges.add(0, 1, 4);
+        edges.add(1, 2, -1);
+        edges.add(2, 3, 4);
+        edges.add(3, 0, 2);
+        edges.add(0, 2, -1);
+    }
+
+    void setStage2() {
+        edges = new EdgeList();
+        Random random = new Random(7);
+        for (int i = 0; i < 50000; i++)
+            edges.add(i, i + 1, random.nextInt(100));
+    }
+
+    @Test
+    void add() {
+        setStage1();
+        assertEquals(5, edges.size());
+        assertEquals(3, edges.src(3));
+        assertEquals(0, edges.dst(3));
+        assertEquals(2, edges.weight(3));
+
+        double[] total = new double[1];
+        edges.forEach((u, v, w) -> total[0] += w);
+        assertEquals(8, total[0]);
+    }
+
+    @Test
+    void sortByWeight() {
+        setStage1();
+        edges.sortByWeight();
+        assertEquals(1, edges.src(0));
+        assertEquals(0, edges.src(1));
+        assertEquals(3, edges.src(2));
+        assertEquals(0, edges.src(3));
+        assertEquals(2, edges.src(4));
+
+        setStage2();
+        edges.sortByWeight();
+        for (int i = 1; i < edges.size(); i++) {
+            assertTrue(edges.weight(i - 1) <= edges.weight(i));
+            if (edges.weight(i - 1) == edges.weight(i))
+                assertTrue(edges.src(i - 1) < edges.src(i));
+            assertEquals(edges.src(i) + 1, edges.dst(i));
+        }
+    }
+
+    @Test
+    void slice() {
+        setStage1();
+        EdgeList slice = edges.slice(1, 3);
+        assertEquals(2, slice.size());
+        assertEquals(1, slice.src(0));
+        assertEquals(4, slice.weight(1));
+        assertEquals(0, edges.slice(5, 5).size());
+        assertThrows(IndexOutOfBoundsException.class, () -> edges.slice(2, 6));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void edgeList() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        IGraph<String> g = new AdjacencyMatrixGraph<>(false, true, 3);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        g.addEdge("b", "a", 3);
+        g.addEdge("c", "c", 1);
+        edges = g.edgeList();
+        assertEquals(2, edges.size());
+        assertEquals(0, edges.src(0));
+        assertEquals(1, edges.dst(0));
+        assertEquals(3, edges.weight(0));
+        assertEquals(2, edges.dst(1));
+
+        edges = new CompressedSparseRowGraph<>(g).edgeList();
+        assertEquals(2, edges.size());
+        edges = new AdjacencyListGraph<String>(true, false).edgeList();
+        assertEquals(0, edges.size());
+    }
+}
@@ -4,6 +4,7 @@ import exceptions.*;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -164,6 +165,93 @@ class GraphAlgorithmsTest {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void shortestPaths() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage0();
+        ShortestPaths paths = GraphAlgorithms.shortestPaths(g, u);
+        assertEquals(0, paths.getSource());
+        assertEquals(16, paths.distance(4));
+        assertEquals(-1, paths.parent(0));
+        assertArrayEquals(new int[]{0, 2, 3, 4}, paths.pathTo(4));
+        assertArrayEquals(new int[]{0}, paths.pathTo(0));
+
+        g = new AdjacencyListGraph(true, true);
+        g.addVertex(u);
+        g.addVertex(v);
+        g.addVertex(s);
+        g.addEdge(u, v, 4);
+        g.addEdge(u, v, 1);
+        g.addEdge(s, u, -2);
+        paths = GraphAlgorithms.shortestPaths(g, u);
+        assertEquals(1, paths.distance(1));
+        assertFalse(paths.hasPathTo(2));
+        assertEquals(0, paths.pathTo(2).length);
+        assertThrows(WrongEdgeTypeException.class, () -> GraphAlgorithms.shortestPaths(g, s));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void dial() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException {
+        setStage0();
+        ShortestPaths paths = GraphAlgorithms.dial(g, u);
+        assertArrayEquals(GraphAlgorithms.shortestPaths(g, u).getDistances(), paths.getDistances());
+        assertArrayEquals(new int[]{0, 2, 3, 4}, paths.pathTo(4));
+        assertThrows(WrongEdgeTypeException.class, () -> GraphAlgorithms.dial(g, u, 12));
+
+        setStage2();
+        paths = GraphAlgorithms.dial(g, u);
+        assertEquals(4, paths.distance(4));
+        assertEquals(3, paths.parent(4));
+
+        setStage3();
+        assertThrows(WrongEdgeTypeException.class, () -> GraphAlgorithms.dial(g, u));
+
+        g = new AdjacencyListGraph(true, true);
+        Random random = new Random(5);
+        for (int i = 0; i < 200; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 1000; i++)
+            g.addEdge(random.nextInt(200), random.nextInt(200), random.nextInt(51));
+        for (int i = 0; i < 200; i += 40)
+            assertArrayEquals(GraphAlgorithms.shortestPaths(g, i).getDistances(),
+                    GraphAlgorithms.dial(g, i, 50).getDistances());
+        g.addEdge(0, 1, 2.5);
+        assertThrows(WrongEdgeTypeException.class, () -> GraphAlgorithms.dial(g, 0));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void allPairsUnweighted() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, WrongGraphTypeException {
+        setStage2();
+        int[][] hops = GraphAlgorithms.allPairsUnweighted(g);
+        assertEquals(0, hops[2][2]);
+        assertEquals(4, hops[0][4]);
+        assertEquals(3, hops[4][1]);
+
+        setStage4();
+        hops = GraphAlgorithms.allPairsUnweighted(g);
+        assertEquals(4, hops[0][4]);
+        assertEquals(Integer.MAX_VALUE, hops[4][0]);
+
+        g = new AdjacencyMatrixGraph(false, true);
+        Random random = new Random(3);
+        for (int i = 0; i < 60; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 90; i++)
+            g.addEdge(i % 60, (i % 60 + 1 + random.nextInt(59)) % 60, 2);
+        g.removeVertex(17);
+        double[][] d = GraphAlgorithms.floydWarshall(g);
+        for (int i = 0; i < 60; i++) {
+            if (i == 17)
+                continue;
+            double[] dist = GraphAlgorithms.shortestPaths(g, i).getDistances();
+            dist[17] = Double.MAX_VALUE;
+            assertArrayEquals(dist, d[i]);
+        }
+        assertEquals(Double.MAX_VALUE, d[17][0]);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void floydWarshall() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, WrongGraphTypeException {
@@ -222,6 +310,55 @@ class GraphAlgorithmsTest {
         assertEquals(0, floydWarshallResult[4][4]);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void floydWarshallBlocked() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, WrongGraphTypeException {
+        g = new AdjacencyMatrixGraph(true, true);
+        Random random = new Random(9);
+        for (int i = 0; i < 150; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 600; i++)
+            g.addEdge(i % 150, (i % 150 + 1 + random.nextInt(149)) % 150, 1 + random.nextInt(20));
+        double[][] d = GraphAlgorithms.floydWarshall(g);
+        for (int i = 0; i < 150; i++)
+            assertArrayEquals(GraphAlgorithms.shortestPaths(g, i).getDistances(), d[i]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void floydWarshallParallel() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, WrongGraphTypeException {
+        g = new AdjacencyListGraph(false, true);
+        Random random = new Random(13);
+        for (int i = 0; i < 300; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 1500; i++)
+            g.addEdge(random.nextInt(300), random.nextInt(300), random.nextDouble() * 10);
+        double[][] sequential = GraphAlgorithms.floydWarshall(g);
+        double[][] parallel = GraphAlgorithms.floydWarshall(g, 4);
+        for (int i = 0; i < 300; i++)
+            for (int j = 0; j < 300; j++)
+                assertEquals(Double.doubleToRawLongBits(sequential[i][j]), Double.doubleToRawLongBits(parallel[i][j]));
+        assertThrows(IllegalArgumentException.class, () -> GraphAlgorithms.floydWarshall(g, 0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void floydWarshallInPlace() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, WrongGraphTypeException {
+        g = new AdjacencyListGraph(true, true);
+        for (int i = 0; i < 4; i++)
+            g.addVertex(i);
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 2, 2);
+        g.addEdge(2, 3, 3);
+        g.weightMatrix();
+
+        double[][] d = GraphAlgorithms.floydWarshall(g);
+        assertEquals(6, d[0][3]);
+        assertEquals(Double.MAX_VALUE, g.weightMatrix()[0][3]);
+        assertEquals(Double.MAX_VALUE, g.weight(0, 2));
+        assertNotSame(d, GraphAlgorithms.floydWarshall(g));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void prim() throws ElementAlreadyPresentException, WrongEdgeTypeException, ElementNotFoundException, WrongGraphTypeException {
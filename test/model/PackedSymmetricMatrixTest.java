@@ -0,0 +1,62 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedSymmetricMatrixTest {
+
+    private PackedSymmetricMatrix matrix;
+
+    void setStage1() {
+        matrix = new PackedSymmetricMatrix(100, Double.MAX_VALUE);
+        for (int i = 0; i < 100; i++)
+            matrix.set(i, (i * 7) % 100, i);
+    }
+
+    @Test
+    void set() {
+        setStage1();
+        assertEquals(3, matrix.get(3, 21));
+        assertEquals(3, matrix.get(21, 3));
+        assertEquals(Double.MAX_VALUE, matrix.get(3, 22));
+        assertEquals(0, matrix.get(0, 0));
+    }
+
+    @Test
+    void grow() {
+        setStage1();
+        matrix.grow(200);
+        assertEquals(200, matrix.capacity());
+        assertEquals(99, matrix.get(93, 99));
+        assertEquals(Double.MAX_VALUE, matrix.get(150, 199));
+        matrix.set(199, 150, 1.5);
+        assertEquals(1.5, matrix.get(150, 199));
+    }
+
+    @Test
+    void clear() {
+        setStage1();
+        matrix.clear(21);
+        assertEquals(Double.MAX_VALUE, matrix.get(3, 21));
+        assertEquals(Double.MAX_VALUE, matrix.get(21, 47));
+        assertEquals(4, matrix.get(4, 28));
+        assertEquals(Double.MAX_VALUE, matrix.toArray(100)[21][3]);
+    }
+
+    @Test
+    void largeIndices() {
+        matrix = new PackedSymmetricMatrix(46000, Double.MAX_VALUE);
+        matrix.grow(65536);
+        matrix.set(46341, 46342, 1);
+        matrix.set(65535, 46341, 2);
+        matrix.set(65535, 65535, 3);
+        assertEquals(1, matrix.get(46342, 46341));
+        assertEquals(2, matrix.get(46341, 65535));
+        assertEquals(3, matrix.get(65535, 65535));
+        assertEquals(Double.MAX_VALUE, matrix.get(46341, 46341));
+        matrix.clear(46341);
+        assertEquals(Double.MAX_VALUE, matrix.get(65535, 46341));
+        assertEquals(3, matrix.get(65535, 65535));
+    }
+}